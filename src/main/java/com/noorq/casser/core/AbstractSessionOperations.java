@@ -43,6 +43,8 @@ public abstract class AbstractSessionOperations {
 	
 	abstract public boolean isShowCql();
 	
+	abstract public boolean isEagerMapping();
+	
 	abstract public PrintStream getPrintStream();
 	
 	abstract public Executor getExecutor();
@@ -53,6 +55,10 @@ public abstract class AbstractSessionOperations {
 	
 	abstract public ColumnValuePreparer getValuePreparer();
 
+	public String getPartitioner() {
+		return currentSession().getCluster().getMetadata().getPartitioner();
+	}
+	
 	public PreparedStatement prepare(RegularStatement statement) {
 		
 		try {
@@ -17,8 +17,8 @@ package com.noorq.casser.core;
 
 import java.io.Closeable;
 import java.io.PrintStream;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
@@ -31,13 +31,13 @@ import com.noorq.casser.core.operation.InsertOperation;
 import com.noorq.casser.core.operation.SelectOperation;
 import com.noorq.casser.core.operation.UpdateOperation;
 import com.noorq.casser.core.reflect.CasserPropertyNode;
+import com.noorq.casser.core.reflect.CreatorMapper;
 import com.noorq.casser.mapping.CasserEntity;
 import com.noorq.casser.mapping.MappingUtil;
 import com.noorq.casser.mapping.value.ColumnValuePreparer;
 import com.noorq.casser.mapping.value.ColumnValueProvider;
 import com.noorq.casser.mapping.value.RowColumnValueProvider;
 import com.noorq.casser.mapping.value.StatementColumnValuePreparer;
-import com.noorq.casser.mapping.value.ValueProviderMap;
 import com.noorq.casser.support.Fun;
 import com.noorq.casser.support.Fun.Tuple1;
 import com.noorq.casser.support.Fun.Tuple2;
@@ -48,6 +48,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 	private final Session session;
 	private volatile String usingKeyspace;
 	private volatile boolean showCql;
+	private volatile boolean eagerMapping;
 	private final PrintStream printStream;
 	private final SessionRepository sessionRepository;
 	private final Executor executor;
@@ -59,6 +60,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 	CasserSession(Session session,
 			String usingKeyspace,
 			boolean showCql, 
+			boolean eagerMapping,
 			PrintStream printStream,
 			SessionRepositoryBuilder sessionRepositoryBuilder, 
 			Executor executor,
@@ -66,6 +68,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		this.session = session;
 		this.usingKeyspace = Objects.requireNonNull(usingKeyspace, "keyspace needs to be selected before creating session");
 		this.showCql = showCql;
+		this.eagerMapping = eagerMapping;
 		this.printStream = printStream;
 		this.sessionRepository = sessionRepositoryBuilder.build();
 		this.executor = executor;
@@ -73,6 +76,8 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		
 		this.valueProvider = new RowColumnValueProvider(this.sessionRepository);
 		this.valuePreparer = new StatementColumnValuePreparer(this.sessionRepository);
+		
+		this.sessionRepository.compileCodecs();
 	}
 	
 	@Override
@@ -111,6 +116,21 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		return this;
 	}
 	
+	@Override
+	public boolean isEagerMapping() {
+		return eagerMapping;
+	}
+	
+	public CasserSession eagerMapping() {
+		this.eagerMapping = true;
+		return this;
+	}
+	
+	public CasserSession eagerMapping(boolean eagerMapping) {
+		this.eagerMapping = eagerMapping;
+		return this;
+	}
+	
 	@Override
 	public Executor getExecutor() {
 		return executor;
@@ -134,15 +154,9 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 	public <E> SelectOperation<E> select(Class<E> entityClass) {
 		
 		Objects.requireNonNull(entityClass, "entityClass is empty");		
-		ColumnValueProvider valueProvider = getValueProvider();
 		CasserEntity entity = Casser.entity(entityClass);
 		
-		return new SelectOperation<E>(this, entity, (r) -> {
-			
-			Map<String, Object> map = new ValueProviderMap(r, valueProvider, entity);
-			return (E) Casser.map(entityClass, map);
-			
-		});
+		return new SelectOperation<E>(this, entity, entityClass);
 	}
 	
 	public SelectOperation<Fun.ArrayTuple> select() {
@@ -160,11 +174,25 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		return new SelectOperation<E>(this, Casser.entity(entityClass), rowMapper);
 	}
 	
+	public <E> SelectOperation<E> selectAll(Class<?> entityClass, Class<E> targetClass) {
+		Objects.requireNonNull(entityClass, "entityClass is empty");
+		Objects.requireNonNull(targetClass, "targetClass is empty");
+		
+		CasserEntity entity = Casser.entity(entityClass);
+		
+		CasserPropertyNode[] props = CreatorMapper.getProperties(entity, targetClass)
+				.stream()
+				.map(p -> new CasserPropertyNode(p, Optional.empty()))
+				.toArray(CasserPropertyNode[]::new);
+		
+		return new SelectOperation<E>(this, () -> new CreatorMapper<E>(entity, targetClass, getSessionRepository()), props);
+	}
+	
 	public <V1> SelectOperation<Fun.Tuple1<V1>> select(Getter<V1> getter1) {
 		Objects.requireNonNull(getter1, "field 1 is empty");
 		
 		CasserPropertyNode p1 = MappingUtil.resolveMappingProperty(getter1);
-		return new SelectOperation<Tuple1<V1>>(this, new Mappers.Mapper1<V1>(getValueProvider(), p1), p1);
+		return new SelectOperation<Tuple1<V1>>(this, () -> new Mappers.Mapper1<V1>(getSessionRepository(), p1), p1);
 	}
 
 	public <V1, V2> SelectOperation<Tuple2<V1, V2>> select(Getter<V1> getter1, Getter<V2> getter2) {
@@ -173,7 +201,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		
 		CasserPropertyNode p1 = MappingUtil.resolveMappingProperty(getter1);
 		CasserPropertyNode p2 = MappingUtil.resolveMappingProperty(getter2);
-		return new SelectOperation<Fun.Tuple2<V1, V2>>(this, new Mappers.Mapper2<V1, V2>(getValueProvider(), p1, p2), p1, p2);
+		return new SelectOperation<Fun.Tuple2<V1, V2>>(this, () -> new Mappers.Mapper2<V1, V2>(getSessionRepository(), p1, p2), p1, p2);
 	}
 
 	public <V1, V2, V3> SelectOperation<Fun.Tuple3<V1, V2, V3>> select(Getter<V1> getter1, Getter<V2> getter2, Getter<V3> getter3) {
@@ -184,7 +212,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		CasserPropertyNode p1 = MappingUtil.resolveMappingProperty(getter1);
 		CasserPropertyNode p2 = MappingUtil.resolveMappingProperty(getter2);
 		CasserPropertyNode p3 = MappingUtil.resolveMappingProperty(getter3);
-		return new SelectOperation<Fun.Tuple3<V1, V2, V3>>(this, new Mappers.Mapper3<V1, V2, V3>(getValueProvider(), p1, p2, p3), p1, p2, p3);
+		return new SelectOperation<Fun.Tuple3<V1, V2, V3>>(this, () -> new Mappers.Mapper3<V1, V2, V3>(getSessionRepository(), p1, p2, p3), p1, p2, p3);
 	}
 
 	public <V1, V2, V3, V4> SelectOperation<Fun.Tuple4<V1, V2, V3, V4>> select(
@@ -198,7 +226,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		CasserPropertyNode p2 = MappingUtil.resolveMappingProperty(getter2);
 		CasserPropertyNode p3 = MappingUtil.resolveMappingProperty(getter3);
 		CasserPropertyNode p4 = MappingUtil.resolveMappingProperty(getter4);
-		return new SelectOperation<Fun.Tuple4<V1, V2, V3, V4>>(this, new Mappers.Mapper4<V1, V2, V3, V4>(getValueProvider(), p1, p2, p3, p4), p1, p2, p3, p4);
+		return new SelectOperation<Fun.Tuple4<V1, V2, V3, V4>>(this, () -> new Mappers.Mapper4<V1, V2, V3, V4>(getSessionRepository(), p1, p2, p3, p4), p1, p2, p3, p4);
 	}
 
 	public <V1, V2, V3, V4, V5> SelectOperation<Fun.Tuple5<V1, V2, V3, V4, V5>> select(
@@ -215,7 +243,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		CasserPropertyNode p4 = MappingUtil.resolveMappingProperty(getter4);
 		CasserPropertyNode p5 = MappingUtil.resolveMappingProperty(getter5);
 		return new SelectOperation<Fun.Tuple5<V1, V2, V3, V4, V5>>(this, 
-				new Mappers.Mapper5<V1, V2, V3, V4, V5>(getValueProvider(), p1, p2, p3, p4, p5), 
+				() -> new Mappers.Mapper5<V1, V2, V3, V4, V5>(getSessionRepository(), p1, p2, p3, p4, p5), 
 				p1, p2, p3, p4, p5);
 	}
 	
@@ -236,7 +264,7 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		CasserPropertyNode p5 = MappingUtil.resolveMappingProperty(getter5);
 		CasserPropertyNode p6 = MappingUtil.resolveMappingProperty(getter6);
 		return new SelectOperation<Tuple6<V1, V2, V3, V4, V5, V6>>(this,  
-				new Mappers.Mapper6<V1, V2, V3, V4, V5, V6>(getValueProvider(), p1, p2, p3, p4, p5, p6), 
+				() -> new Mappers.Mapper6<V1, V2, V3, V4, V5, V6>(getSessionRepository(), p1, p2, p3, p4, p5, p6), 
 				p1, p2, p3, p4, p5, p6);
 	}
 
@@ -260,8 +288,8 @@ public final class CasserSession extends AbstractSessionOperations implements Cl
 		CasserPropertyNode p6 = MappingUtil.resolveMappingProperty(getter6);
 		CasserPropertyNode p7 = MappingUtil.resolveMappingProperty(getter7);
 		return new SelectOperation<Fun.Tuple7<V1, V2, V3, V4, V5, V6, V7>>(this, 
-				new Mappers.Mapper7<V1, V2, V3, V4, V5, V6, V7>(
-				getValueProvider(), 
+				() -> new Mappers.Mapper7<V1, V2, V3, V4, V5, V6, V7>(
+				getSessionRepository(), 
 				p1, p2, p3, p4, p5, p6, p7), 
 				p1, p2, p3, p4, p5, p6, p7);
 	}
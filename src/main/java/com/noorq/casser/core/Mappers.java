@@ -19,8 +19,8 @@ import java.util.function.Function;
 
 import com.datastax.driver.core.Row;
 import com.noorq.casser.core.reflect.CasserPropertyNode;
-import com.noorq.casser.mapping.CasserProperty;
-import com.noorq.casser.mapping.value.ColumnValueProvider;
+import com.noorq.casser.mapping.value.RowReadPlan;
+import com.noorq.casser.mapping.value.RowReadPlanner;
 import com.noorq.casser.support.Fun;
 
 public final class Mappers {
@@ -30,129 +30,108 @@ public final class Mappers {
 
 	public final static class Mapper1<A> implements Function<Row, Fun.Tuple1<A>> {
 
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1;
+		private final RowReadPlanner planner;
 		
-		public Mapper1(ColumnValueProvider provider, CasserPropertyNode p1) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
+		public Mapper1(SessionRepository repository, CasserPropertyNode p1) {
+			this.planner = new RowReadPlanner(repository, p1.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple1<A> apply(Row row) {
-			return new Fun.Tuple1<A>(provider.getColumnValue(row, 0, p1));
+			RowReadPlan plan = planner.getPlan(row);
+			return new Fun.Tuple1<A>(plan.getValue(row, 0));
 		}
 	}
 	
 	public final static class Mapper2<A, B> implements Function<Row, Fun.Tuple2<A, B>> {
 
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1;
-		private final CasserProperty p2;
+		private final RowReadPlanner planner;
 		
-		public Mapper2(ColumnValueProvider provider, 
+		public Mapper2(SessionRepository repository, 
 				CasserPropertyNode p1, 
 				CasserPropertyNode p2) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
-			this.p2 = p2.getProperty();
+			this.planner = new RowReadPlanner(repository, p1.getProperty(), p2.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple2<A, B> apply(Row row) {
+			RowReadPlan plan = planner.getPlan(row);
 			return new Fun.Tuple2<A, B>(
-					provider.getColumnValue(row, 0, p1), 
-					provider.getColumnValue(row, 1, p2));
+					plan.getValue(row, 0), 
+					plan.getValue(row, 1));
 		}
 	}
 	
 	public final static class Mapper3<A, B, C> implements Function<Row, Fun.Tuple3<A, B, C>> {
 
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1;
-		private final CasserProperty p2;
-		private final CasserProperty p3;
+		private final RowReadPlanner planner;
 		
-		public Mapper3(ColumnValueProvider provider, 
+		public Mapper3(SessionRepository repository, 
 				CasserPropertyNode p1, 
 				CasserPropertyNode p2, 
 				CasserPropertyNode p3) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
-			this.p2 = p2.getProperty();
-			this.p3 = p3.getProperty();
+			this.planner = new RowReadPlanner(repository, p1.getProperty(), p2.getProperty(), p3.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple3<A, B, C> apply(Row row) {
+			RowReadPlan plan = planner.getPlan(row);
 			return new Fun.Tuple3<A, B, C>(
-					provider.getColumnValue(row, 0, p1), 
-					provider.getColumnValue(row, 1, p2),
-					provider.getColumnValue(row, 2, p3)
+					plan.getValue(row, 0), 
+					plan.getValue(row, 1),
+					plan.getValue(row, 2)
 					);
 		}
 	}
 	
 	public final static class Mapper4<A, B, C, D> implements Function<Row, Fun.Tuple4<A, B, C, D>> {
 
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1;
-		private final CasserProperty p2;
-		private final CasserProperty p3;
-		private final CasserProperty p4;
+		private final RowReadPlanner planner;
 		
-		public Mapper4(ColumnValueProvider provider, 
+		public Mapper4(SessionRepository repository, 
 				CasserPropertyNode p1, 
 				CasserPropertyNode p2, 
 				CasserPropertyNode p3,
 				CasserPropertyNode p4
 				) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
-			this.p2 = p2.getProperty();
-			this.p3 = p3.getProperty();
-			this.p4 = p4.getProperty();
+			this.planner = new RowReadPlanner(repository, p1.getProperty(), p2.getProperty(), p3.getProperty(), p4.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple4<A, B, C, D> apply(Row row) {
+			RowReadPlan plan = planner.getPlan(row);
 			return new Fun.Tuple4<A, B, C, D>(
-					provider.getColumnValue(row, 0, p1), 
-					provider.getColumnValue(row, 1, p2),
-					provider.getColumnValue(row, 2, p3),
-					provider.getColumnValue(row, 3, p4)
+					plan.getValue(row, 0), 
+					plan.getValue(row, 1),
+					plan.getValue(row, 2),
+					plan.getValue(row, 3)
 					);
 		}
 	}
 	
 	public final static class Mapper5<A, B, C, D, E> implements Function<Row, Fun.Tuple5<A, B, C, D, E>> {
 
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1, p2, p3, p4, p5;
+		private final RowReadPlanner planner;
 		
-		public Mapper5(ColumnValueProvider provider, 
+		public Mapper5(SessionRepository repository, 
 				CasserPropertyNode p1, 
 				CasserPropertyNode p2, 
 				CasserPropertyNode p3,
 				CasserPropertyNode p4,
 				CasserPropertyNode p5
 				) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
-			this.p2 = p2.getProperty();
-			this.p3 = p3.getProperty();
-			this.p4 = p4.getProperty();
-			this.p5 = p5.getProperty();
+			this.planner = new RowReadPlanner(repository, p1.getProperty(), p2.getProperty(), p3.getProperty(), p4.getProperty(), p5.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple5<A, B, C, D, E> apply(Row row) {
+			RowReadPlan plan = planner.getPlan(row);
 			return new Fun.Tuple5<A, B, C, D, E>(
-					provider.getColumnValue(row, 0, p1), 
-					provider.getColumnValue(row, 1, p2),
-					provider.getColumnValue(row, 2, p3),
-					provider.getColumnValue(row, 3, p4),
-					provider.getColumnValue(row, 4, p5)
+					plan.getValue(row, 0), 
+					plan.getValue(row, 1),
+					plan.getValue(row, 2),
+					plan.getValue(row, 3),
+					plan.getValue(row, 4)
 					);
 		}
 	}
@@ -162,10 +141,9 @@ public final class Mappers {
 		Function<Row, 
 		Fun.Tuple6<A, B, C, D, E, F>> {
 	
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1, p2, p3, p4, p5, p6;
+		private final RowReadPlanner planner;
 		
-		public Mapper6(ColumnValueProvider provider, 
+		public Mapper6(SessionRepository repository, 
 				CasserPropertyNode p1, 
 				CasserPropertyNode p2, 
 				CasserPropertyNode p3,
@@ -173,24 +151,19 @@ public final class Mappers {
 				CasserPropertyNode p5,
 				CasserPropertyNode p6
 				) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
-			this.p2 = p2.getProperty();
-			this.p3 = p3.getProperty();
-			this.p4 = p4.getProperty();
-			this.p5 = p5.getProperty();
-			this.p6 = p6.getProperty();
+			this.planner = new RowReadPlanner(repository, p1.getProperty(), p2.getProperty(), p3.getProperty(), p4.getProperty(), p5.getProperty(), p6.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple6<A, B, C, D, E, F> apply(Row row) {
+			RowReadPlan plan = planner.getPlan(row);
 			return new Fun.Tuple6<A, B, C, D, E, F>(
-					provider.getColumnValue(row, 0, p1), 
-					provider.getColumnValue(row, 1, p2),
-					provider.getColumnValue(row, 2, p3),
-					provider.getColumnValue(row, 3, p4),
-					provider.getColumnValue(row, 4, p5),
-					provider.getColumnValue(row, 5, p6)
+					plan.getValue(row, 0), 
+					plan.getValue(row, 1),
+					plan.getValue(row, 2),
+					plan.getValue(row, 3),
+					plan.getValue(row, 4),
+					plan.getValue(row, 5)
 					);
 		}
 	}
@@ -199,10 +172,9 @@ public final class Mappers {
 		Function<Row, 
 		Fun.Tuple7<A, B, C, D, E, F, G>> {
 	
-		private final ColumnValueProvider provider;
-		private final CasserProperty p1, p2, p3, p4, p5, p6, p7;
+		private final RowReadPlanner planner;
 		
-		public Mapper7(ColumnValueProvider provider, 
+		public Mapper7(SessionRepository repository, 
 				CasserPropertyNode p1, 
 				CasserPropertyNode p2, 
 				CasserPropertyNode p3,
@@ -211,26 +183,20 @@ public final class Mappers {
 				CasserPropertyNode p6,
 				CasserPropertyNode p7
 				) {
-			this.provider = provider;
-			this.p1 = p1.getProperty();
-			this.p2 = p2.getProperty();
-			this.p3 = p3.getProperty();
-			this.p4 = p4.getProperty();
-			this.p5 = p5.getProperty();
-			this.p6 = p6.getProperty();
-			this.p7 = p7.getProperty();
+			this.planner = new RowReadPlanner(repository, p1.getProperty(), p2.getProperty(), p3.getProperty(), p4.getProperty(), p5.getProperty(), p6.getProperty(), p7.getProperty());
 		}
 		
 		@Override
 		public Fun.Tuple7<A, B, C, D, E, F, G> apply(Row row) {
+			RowReadPlan plan = planner.getPlan(row);
 			return new Fun.Tuple7<A, B, C, D, E, F, G>(
-					provider.getColumnValue(row, 0, p1), 
-					provider.getColumnValue(row, 1, p2),
-					provider.getColumnValue(row, 2, p3),
-					provider.getColumnValue(row, 3, p4),
-					provider.getColumnValue(row, 4, p5),
-					provider.getColumnValue(row, 5, p6),
-					provider.getColumnValue(row, 6, p7)
+					plan.getValue(row, 0), 
+					plan.getValue(row, 1),
+					plan.getValue(row, 2),
+					plan.getValue(row, 3),
+					plan.getValue(row, 4),
+					plan.getValue(row, 5),
+					plan.getValue(row, 6)
 					);
 		}
 	}	
@@ -20,6 +20,14 @@ public final class Ordered {
 		this.direction = direction;
 	}
 	
+	public Getter<?> getGetter() {
+		return getter;
+	}
+	
+	public OrderingDirection getDirection() {
+		return direction;
+	}
+	
 	public Ordering getOrdering() {
 		
 		Objects.requireNonNull(getter, "property is null");
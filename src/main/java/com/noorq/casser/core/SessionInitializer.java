@@ -45,6 +45,7 @@ public final class SessionInitializer extends AbstractSessionOperations {
 	private final Session session;
 	private String usingKeyspace;
 	private boolean showCql = false;
+	private boolean eagerMapping = false;
 	private PrintStream printStream = System.out;
 	private Executor executor = MoreExecutors.sameThreadExecutor();
 	
@@ -103,6 +104,31 @@ public final class SessionInitializer extends AbstractSessionOperations {
 		return this;
 	}
 
+	public SessionInitializer eagerMapping() {
+		this.eagerMapping = true;
+		return this;
+	}
+	
+	public SessionInitializer eagerMapping(boolean enabled) {
+		this.eagerMapping = enabled;
+		return this;
+	}
+	
+	@Override
+	public boolean isEagerMapping() {
+		return eagerMapping;
+	}
+	
+	public SessionInitializer eagerUdtMapping() {
+		sessionRepository.setEagerUdtMapping(true);
+		return this;
+	}
+	
+	public SessionInitializer eagerUdtMapping(boolean enabled) {
+		sessionRepository.setEagerUdtMapping(enabled);
+		return this;
+	}
+
 	@Override
 	public PrintStream getPrintStream() {
 		return printStream;
@@ -207,6 +233,7 @@ public final class SessionInitializer extends AbstractSessionOperations {
 		return new CasserSession(session, 
 				usingKeyspace,
 				showCql, 
+				eagerMapping,
 				printStream,
 				sessionRepository,
 				executor,
@@ -218,6 +245,9 @@ public final class SessionInitializer extends AbstractSessionOperations {
 		Objects.requireNonNull(usingKeyspace, "please define keyspace by 'use' operator");
 
 		initList.forEach(dsl -> sessionRepository.add(dsl));
+		
+		sessionRepository.setProtocolVersion(session.getCluster().getConfiguration()
+				.getProtocolOptions().getProtocolVersionEnum());
 
 		TableOperations tableOps = new TableOperations(this, dropUnusedColumns, dropUnusedIndexes);
 		UserTypeOperations userTypeOps = new UserTypeOperations(this, dropUnusedColumns);
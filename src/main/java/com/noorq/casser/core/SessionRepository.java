@@ -16,16 +16,28 @@
 package com.noorq.casser.core;
 
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.UserType;
 import com.google.common.collect.ImmutableMap;
 import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserMappingProperty;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.PropertyCodec;
 
 public final class SessionRepository {
 	
 	private final ImmutableMap<String, UserType> userTypeMap;
 
 	private final ImmutableMap<Class<?>, CasserEntity> entityMap;
+	
+	private final boolean eagerUdtMapping;
+	
+	private final ProtocolVersion protocolVersion;
+	
+	private final ConcurrentMap<CasserMappingProperty, PropertyCodec> codecMap = new ConcurrentHashMap<CasserMappingProperty, PropertyCodec>();
 
 	public SessionRepository(SessionRepositoryBuilder builder) {
 		
@@ -36,6 +48,9 @@ public final class SessionRepository {
 		entityMap = ImmutableMap.<Class<?>, CasserEntity>builder()
 				.putAll(builder.getEntityMap())
 				.build();
+		
+		eagerUdtMapping = builder.isEagerUdtMapping();
+		protocolVersion = builder.getProtocolVersion();
 	}
 	
 	public UserType findUserType(String name) {
@@ -46,4 +61,45 @@ public final class SessionRepository {
 		return entityMap.values();
 	}
 	
+	public boolean isEagerUdtMapping() {
+		return eagerUdtMapping;
+	}
+	
+	/**
+	 * Protocol version negotiated with the cluster, serialized collections depend on it 
+	 */
+	
+	public ProtocolVersion getProtocolVersion() {
+		return protocolVersion;
+	}
+	
+	/**
+	 * Codec of the property for the user types of this repository, codecs of 
+	 * the registered entities are compiled when the session is created
+	 */
+	
+	public PropertyCodec getCodec(CasserMappingProperty property) {
+		
+		PropertyCodec codec = codecMap.get(property);
+		
+		if (codec == null) {
+			codec = property.resolveCodec(this);
+			PropertyCodec concurrentCodec = codecMap.putIfAbsent(property, codec);
+			if (concurrentCodec != null) {
+				codec = concurrentCodec;
+			}
+		}
+		
+		return codec;
+	}
+	
+	void compileCodecs() {
+		
+		for (CasserEntity entity : entityMap.values()) {
+			for (CasserProperty prop : entity.getOrderedProperties()) {
+				prop.getCodec(this);
+			}
+		}
+	}
+	
 }
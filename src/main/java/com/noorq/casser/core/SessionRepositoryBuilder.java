@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 import com.google.common.collect.HashMultimap;
@@ -40,11 +41,31 @@ public final class SessionRepositoryBuilder {
 	private final Map<String, UserType> userTypeMap = new HashMap<String, UserType>();
 
     private final Multimap<CasserEntity, CasserEntity> userTypeUsesMap = HashMultimap.create(); 
+    
+    private boolean eagerUdtMapping = false;
+    
+    private ProtocolVersion protocolVersion = ProtocolVersion.NEWEST_SUPPORTED;
 	
 	public SessionRepository build() {
 		return new SessionRepository(this);
 	}
+	
+	public void setEagerUdtMapping(boolean eagerUdtMapping) {
+		this.eagerUdtMapping = eagerUdtMapping;
+	}
+	
+	public boolean isEagerUdtMapping() {
+		return eagerUdtMapping;
+	}
 
+	public void setProtocolVersion(ProtocolVersion protocolVersion) {
+		this.protocolVersion = protocolVersion;
+	}
+	
+	public ProtocolVersion getProtocolVersion() {
+		return protocolVersion;
+	}
+	
 	public Collection<CasserEntity> getUserTypeUses(CasserEntity udtName) {
 		return userTypeUsesMap.get(udtName);
 	}
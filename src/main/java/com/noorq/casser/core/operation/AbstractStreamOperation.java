@@ -15,8 +15,11 @@
  */
 package com.noorq.casser.core.operation;
 
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
+import org.reactivestreams.Publisher;
+
 import scala.concurrent.Future;
 
 import com.datastax.driver.core.PreparedStatement;
@@ -83,6 +86,29 @@ public abstract class AbstractStreamOperation<E, O extends AbstractStreamOperati
 		return future;
 	}
 	
+	/**
+	 * Publisher that executes the query for each subscriber and fetches the 
+	 * next page only when the subscriber requests more rows than already fetched,
+	 * signals are delivered on the session executor
+	 */
+	
+	public Publisher<E> publisher() {
+		return publisher(sessionOps.getExecutor());
+	}
+	
+	/**
+	 * Publisher that delivers signals on the given executor, use it to keep 
+	 * subscribers off the driver I/O thread when the session executor runs 
+	 * tasks in the calling thread
+	 */
+	
+	public Publisher<E> publisher(Executor executor) {
+		return new ResultSetPublisher<E>(
+				() -> sessionOps.executeAsync(options(buildStatement()), showValues), 
+				this::transform, 
+				executor);
+	}
+	
 	public ListenableFuture<scala.collection.immutable.Stream<E>> asyncForScala() {
 		
 		ResultSetFuture resultSetFuture = sessionOps.executeAsync(options(buildStatement()), showValues);
@@ -0,0 +1,146 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+/**
+ * Count extrapolated from the counts of randomly sampled token ranges of equal width,
+ * with the normal approximation confidence interval 
+ */
+
+public final class CountEstimate {
+
+	private final long estimate;
+	private final long lower;
+	private final long upper;
+	private final double confidence;
+	private final int sampledRanges;
+	private final int totalRanges;
+	private final long sampledCount;
+	
+	private CountEstimate(long estimate, long lower, long upper, double confidence, 
+			int sampledRanges, int totalRanges, long sampledCount) {
+		this.estimate = estimate;
+		this.lower = lower;
+		this.upper = upper;
+		this.confidence = confidence;
+		this.sampledRanges = sampledRanges;
+		this.totalRanges = totalRanges;
+		this.sampledCount = sampledCount;
+	}
+	
+	/**
+	 * Estimate from counts of the sampled ranges out of totalRanges, the interval is 
+	 * unbounded above if only one range is sampled and exact if all ranges are
+	 */
+	
+	public static CountEstimate of(long[] counts, int totalRanges, double confidence) {
+		
+		int m = counts.length;
+		
+		if (m == 0 || m > totalRanges) {
+			throw new IllegalArgumentException("invalid number of sampled ranges " + m + " of " + totalRanges);
+		}
+		
+		long sum = 0;
+		for (long c : counts) {
+			sum += c;
+		}
+		
+		double mean = (double) sum / m;
+		long estimate = Math.round(mean * totalRanges);
+		
+		if (m == totalRanges) {
+			return new CountEstimate(sum, sum, sum, confidence, m, totalRanges, sum);
+		}
+		
+		if (m == 1) {
+			return new CountEstimate(estimate, sum, Long.MAX_VALUE, confidence, m, totalRanges, sum);
+		}
+		
+		double variance = 0.0;
+		for (long c : counts) {
+			variance += (c - mean) * (c - mean);
+		}
+		variance /= m - 1;
+		
+		double standardError = totalRanges * Math.sqrt(variance / m * (1.0 - (double) m / totalRanges));
+		double margin = normalQuantile(0.5 + confidence / 2.0) * standardError;
+		
+		long lower = Math.max(sum, Math.round(mean * totalRanges - margin));
+		long upper = Math.round(mean * totalRanges + margin);
+		
+		return new CountEstimate(estimate, lower, upper, confidence, m, totalRanges, sum);
+	}
+	
+	/**
+	 * Inverse of the standard normal distribution, Abramowitz and Stegun 26.2.23
+	 */
+	
+	static double normalQuantile(double p) {
+		
+		if (p <= 0.0 || p >= 1.0) {
+			throw new IllegalArgumentException("probability out of (0, 1) " + p);
+		}
+		
+		if (p < 0.5) {
+			return -normalQuantile(1.0 - p);
+		}
+		
+		double t = Math.sqrt(-2.0 * Math.log(1.0 - p));
+		
+		return t - (2.515517 + 0.802853 * t + 0.010328 * t * t) 
+				/ (1.0 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+	}
+	
+	public long getEstimate() {
+		return estimate;
+	}
+
+	public long getLower() {
+		return lower;
+	}
+
+	public long getUpper() {
+		return upper;
+	}
+
+	public double getConfidence() {
+		return confidence;
+	}
+
+	public int getSampledRanges() {
+		return sampledRanges;
+	}
+
+	public int getTotalRanges() {
+		return totalRanges;
+	}
+
+	/**
+	 * Rows counted in the sampled ranges
+	 */
+	
+	public long getSampledCount() {
+		return sampledCount;
+	}
+
+	@Override
+	public String toString() {
+		return "CountEstimate [estimate=" + estimate + ", interval=[" + lower + ", " + upper 
+				+ "], confidence=" + confidence + ", ranges=" + sampledRanges + "/" + totalRanges + "]";
+	}
+	
+}
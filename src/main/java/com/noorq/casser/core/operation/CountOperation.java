@@ -64,6 +64,38 @@ public final class CountOperation extends AbstractFilterOperation<Long, CountOpe
 		return select;
 	}
 	
+	/**
+	 * Statement of the count restricted to the partitions with tokens in the range
+	 */
+	
+	public BuiltStatement buildStatement(TokenRange range) {
+		
+		TokenRange.checkFilters(filters);
+		
+		Select select = (Select) buildStatement();
+		
+		Where where = select.where();
+		range.getClauses(entity).forEach(where::and);
+		
+		return select;
+	}
+	
+	/**
+	 * Exact count that runs a count query per token range concurrently and sums the results 
+	 */
+	
+	public TokenCountOperation scan() {
+		return new TokenCountOperation(this);
+	}
+	
+	/**
+	 * Approximate count from the sample of the token ranges
+	 */
+	
+	public CountEstimate estimate(double sampleFraction) {
+		return scan().sample(sampleFraction).estimate();
+	}
+	
 	@Override
 	public Long transform(ResultSet resultSet) {
 		return resultSet.one().getLong(0);
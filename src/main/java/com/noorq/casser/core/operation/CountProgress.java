@@ -0,0 +1,59 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+/**
+ * Progress of the token range count
+ */
+
+public final class CountProgress {
+
+	private final int completedRanges;
+	private final int totalRanges;
+	private final long count;
+	
+	public CountProgress(int completedRanges, int totalRanges, long count) {
+		this.completedRanges = completedRanges;
+		this.totalRanges = totalRanges;
+		this.count = count;
+	}
+
+	public int getCompletedRanges() {
+		return completedRanges;
+	}
+
+	public int getTotalRanges() {
+		return totalRanges;
+	}
+
+	/**
+	 * Rows counted in the completed ranges
+	 */
+	
+	public long getCount() {
+		return count;
+	}
+	
+	public double getFraction() {
+		return totalRanges != 0 ? (double) completedRanges / totalRanges : 1.0;
+	}
+
+	@Override
+	public String toString() {
+		return "CountProgress [ranges=" + completedRanges + "/" + totalRanges + ", count=" + count + "]";
+	}
+	
+}
@@ -0,0 +1,83 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of page fetches made while streaming the results of the operation
+ */
+
+public final class FetchCounters {
+
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder prefetches = new LongAdder();
+	private final LongAdder blockingFetches = new LongAdder();
+	
+	/**
+	 * Number of rows consumed
+	 */
+	
+	public long getRows() {
+		return rows.sum();
+	}
+	
+	/**
+	 * Number of times the next page was requested in the background
+	 */
+	
+	public long getPrefetches() {
+		return prefetches.sum();
+	}
+	
+	/**
+	 * Number of times the consumer reached the end of the fetched rows 
+	 * and had to wait for the next page
+	 */
+	
+	public long getBlockingFetches() {
+		return blockingFetches.sum();
+	}
+	
+	public void reset() {
+		rows.reset();
+		prefetches.reset();
+		blockingFetches.reset();
+	}
+	
+	void onRow() {
+		rows.increment();
+	}
+	
+	void onRows(int count) {
+		rows.add(count);
+	}
+	
+	void onPrefetch() {
+		prefetches.increment();
+	}
+	
+	void onBlockingFetch() {
+		blockingFetches.increment();
+	}
+
+	@Override
+	public String toString() {
+		return "FetchCounters [rows=" + getRows() + ", prefetches=" + getPrefetches() 
+				+ ", blockingFetches=" + getBlockingFetches() + "]";
+	}
+	
+}
@@ -0,0 +1,245 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.noorq.casser.core.Filter;
+import com.noorq.casser.core.reflect.CasserPropertyNode;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.ColumnType;
+import com.noorq.casser.support.CasserException;
+import com.noorq.casser.support.CasserMappingException;
+
+/**
+ * Loads partitions by keys with a prepared single partition query per key, at most 
+ * parallelism queries at the same time. Bound statements carry the routing key, 
+ * so the token aware load balancing sends every query to a replica of the partition.
+ * Pages of the partition are fetched asynchronously and only fetched rows are mapped 
+ * in the callbacks, so the driver I/O thread never waits for the next page.
+ */
+
+public final class MultiGetOperation<K, E> {
+
+	private final SelectOperation<E> select;
+	private final CasserPropertyNode key;
+	private final Set<K> keys;
+	
+	private int parallelism = 32;
+	
+	public MultiGetOperation(SelectOperation<E> select, CasserPropertyNode key, Collection<K> keys) {
+		this.select = select;
+		this.key = key;
+		this.keys = new LinkedHashSet<K>(keys);
+		
+		for (K k : this.keys) {
+			if (k == null) {
+				throw new IllegalArgumentException("null key");
+			}
+		}
+	}
+	
+	public MultiGetOperation<K, E> parallelism(int parallelism) {
+		
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("non-positive parallelism " + parallelism);
+		}
+		
+		this.parallelism = parallelism;
+		return this;
+	}
+	
+	/**
+	 * Statement of the select restricted to the single partition key given by the bind marker
+	 */
+	
+	public BuiltStatement buildStatement() {
+		
+		CasserProperty prop = key.getProperty();
+		CasserEntity entity = key.getEntity();
+		
+		if (prop.getColumnType() != ColumnType.PARTITION_KEY) {
+			throw new CasserMappingException("property must be a partition key " + prop.getPropertyName());
+		}
+		
+		long partitionKeys = entity.getOrderedProperties().stream()
+				.filter(p -> p.getColumnType() == ColumnType.PARTITION_KEY)
+				.count();
+		
+		if (partitionKeys != 1) {
+			throw new CasserMappingException("multi-get supports only the single column partition key in " + entity.getMappingInterface());
+		}
+		
+		if (select.filters != null) {
+			for (Filter<?> filter : select.filters) {
+				if (filter.getNode().getProperty().getColumnType() == ColumnType.PARTITION_KEY) {
+					throw new CasserMappingException("multi-get can not have partition key filter " + filter);
+				}
+			}
+		}
+		
+		Select statement = (Select) select.buildStatement();
+		statement.where().and(QueryBuilder.eq(key.getColumnName(), QueryBuilder.bindMarker()));
+		
+		return statement;
+	}
+	
+	public MultiGetResult<K, E> sync() {
+		
+		PreparedStatement prepared = select.sessionOps.prepare(buildStatement());
+		
+		Map<K, List<E>> loaded = new ConcurrentHashMap<K, List<E>>();
+		Map<K, Throwable> failed = new ConcurrentHashMap<K, Throwable>();
+		
+		Semaphore permits = new Semaphore(parallelism);
+		CountDownLatch latch = new CountDownLatch(keys.size());
+		
+		for (K k : keys) {
+			
+			permits.acquireUninterruptibly();
+			
+			ResultSetFuture future;
+			
+			try {
+				Object value = select.sessionOps.getValuePreparer().prepareColumnValue(k, key.getProperty());
+				BoundStatement bound = prepared.bind(value);
+				future = select.sessionOps.executeAsync(select.options(bound), select.showValues);
+			}
+			catch(RuntimeException e) {
+				failed.put(k, e);
+				permits.release();
+				latch.countDown();
+				continue;
+			}
+			
+			Futures.addCallback(future, new PartitionLoader(k, loaded, failed, () -> {
+				permits.release();
+				latch.countDown();
+			}), select.sessionOps.getExecutor());
+		}
+		
+		try {
+			latch.await();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CasserException(e);
+		}
+		
+		Map<K, List<E>> results = new LinkedHashMap<K, List<E>>();
+		Map<K, Throwable> failures = new LinkedHashMap<K, Throwable>();
+		
+		for (K k : keys) {
+			if (loaded.containsKey(k)) {
+				results.put(k, loaded.get(k));
+			}
+			else {
+				failures.put(k, failed.get(k));
+			}
+		}
+		
+		return new MultiGetResult<K, E>(results, failures);
+	}
+	
+	private final class PartitionLoader implements FutureCallback<ResultSet> {
+		
+		private final K k;
+		private final Map<K, List<E>> loaded;
+		private final Map<K, Throwable> failed;
+		private final Runnable done;
+		
+		private final Function<Row, E> mapper = select.newRowMapper();
+		private final List<E> rows = new ArrayList<E>();
+		
+		PartitionLoader(K k, Map<K, List<E>> loaded, Map<K, Throwable> failed, Runnable done) {
+			this.k = k;
+			this.loaded = loaded;
+			this.failed = failed;
+			this.done = done;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public void onSuccess(ResultSet resultSet) {
+			
+			try {
+				
+				for (int available = resultSet.getAvailableWithoutFetching(); available > 0; --available) {
+					Row row = resultSet.one();
+					rows.add(mapper != null ? mapper.apply(row) : (E) row);
+				}
+				
+				if (!resultSet.isFullyFetched()) {
+					fetch(resultSet);
+					return;
+				}
+				
+				loaded.put(k, rows);
+			}
+			catch(RuntimeException e) {
+				failed.put(k, e);
+			}
+			
+			done.run();
+		}
+
+		@Override
+		public void onFailure(Throwable t) {
+			failed.put(k, t);
+			done.run();
+		}
+		
+		private void fetch(ResultSet resultSet) {
+			
+			Futures.addCallback(resultSet.fetchMoreResults(), new FutureCallback<Void>() {
+
+				@Override
+				public void onSuccess(Void result) {
+					PartitionLoader.this.onSuccess(resultSet);
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					PartitionLoader.this.onFailure(t);
+				}
+				
+			}, select.sessionOps.getExecutor());
+		}
+		
+	}
+	
+}
@@ -0,0 +1,62 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of every requested partition key in the order of the keys, 
+ * keys that failed are in the failures instead
+ */
+
+public final class MultiGetResult<K, E> {
+
+	private final Map<K, List<E>> results;
+	private final Map<K, Throwable> failures;
+	
+	public MultiGetResult(Map<K, List<E>> results, Map<K, Throwable> failures) {
+		this.results = Collections.unmodifiableMap(results);
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+	
+	/**
+	 * Rows of the successfully loaded keys in the input order, the list is empty if the partition does not exist 
+	 */
+	
+	public Map<K, List<E>> getResults() {
+		return results;
+	}
+	
+	public List<E> get(K key) {
+		return results.get(key);
+	}
+	
+	public Map<K, Throwable> getFailures() {
+		return failures;
+	}
+	
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiGetResult [results=" + results.size() + ", failures=" + failures.keySet() + "]";
+	}
+	
+}
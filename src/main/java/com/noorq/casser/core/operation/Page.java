@@ -0,0 +1,52 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single page of the query results and the cursor of the next page if there is one 
+ */
+
+public final class Page<E> {
+
+	private final List<E> items;
+	private final Optional<PageCursor> next;
+	
+	public Page(List<E> items, Optional<PageCursor> next) {
+		this.items = items;
+		this.next = next;
+	}
+	
+	public List<E> getItems() {
+		return items;
+	}
+	
+	public Optional<PageCursor> getNext() {
+		return next;
+	}
+	
+	public boolean hasNext() {
+		return next.isPresent();
+	}
+
+	@Override
+	public String toString() {
+		return "Page [items=" + items.size() + ", next=" + next.map(PageCursor::toString).orElse("none") + "]";
+	}
+	
+}
@@ -0,0 +1,95 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Base64;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.exceptions.PagingStateException;
+import com.noorq.casser.support.CasserException;
+
+/**
+ * Opaque position of the next page of the query, can be serialized or 
+ * converted to the URL safe string and used on any node to continue the same query.
+ */
+
+public final class PageCursor implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final byte[] pagingState;
+	
+	private PageCursor(byte[] pagingState) {
+		this.pagingState = pagingState;
+	}
+	
+	static PageCursor of(PagingState pagingState) {
+		return new PageCursor(pagingState.toBytes());
+	}
+	
+	public static PageCursor fromBytes(byte[] bytes) {
+		return new PageCursor(bytes.clone());
+	}
+	
+	public static PageCursor fromString(String str) {
+		try {
+			return new PageCursor(Base64.getUrlDecoder().decode(str));
+		}
+		catch(IllegalArgumentException e) {
+			throw new CasserException("invalid page cursor " + str, e);
+		}
+	}
+	
+	PagingState getPagingState() {
+		try {
+			return PagingState.fromBytes(pagingState);
+		}
+		catch(PagingStateException e) {
+			throw new CasserException("invalid page cursor " + this, e);
+		}
+	}
+	
+	public byte[] toBytes() {
+		return pagingState.clone();
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(pagingState);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		
+		if (this == obj) {
+			return true;
+		}
+		
+		if (!(obj instanceof PageCursor)) {
+			return false;
+		}
+		
+		return Arrays.equals(pagingState, ((PageCursor) obj).pagingState);
+	}
+
+	@Override
+	public String toString() {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(pagingState);
+	}
+	
+}
@@ -0,0 +1,157 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * Spliterator over the rows of the ResultSet that splits off the fetched rows 
+ * as a prefix, so parallel streams map them concurrently in encounter order.
+ * Splitting never fetches, the following pages are read sequentially and the 
+ * next page is requested asynchronously when no more than prefetchThreshold 
+ * fetched rows remain.
+ */
+
+public final class PageSpliterator implements Spliterator<Row> {
+
+	private final ResultSet resultSet;
+	private final Iterator<Row> iterator;
+	private final int prefetchThreshold;
+	private final FetchCounters counters;
+	
+	private int lastAvailable = 0;
+	private boolean prefetching = false;
+	
+	public PageSpliterator(ResultSet resultSet) {
+		this(resultSet, 0, null);
+	}
+	
+	public PageSpliterator(ResultSet resultSet, int prefetchThreshold, FetchCounters counters) {
+		this.resultSet = resultSet;
+		this.iterator = resultSet.iterator();
+		this.prefetchThreshold = prefetchThreshold;
+		this.counters = counters;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super Row> action) {
+		
+		if (hasNext()) {
+			action.accept(iterator.next());
+			return true;
+		}
+		
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Row> action) {
+		while (hasNext()) {
+			action.accept(iterator.next());
+		}
+	}
+	
+	private boolean hasNext() {
+		
+		if (prefetchThreshold > 0 || counters != null) {
+			checkFetch();
+		}
+		
+		if (iterator.hasNext()) {
+			if (counters != null) {
+				counters.onRow();
+			}
+			return true;
+		}
+		
+		return false;
+	}
+	
+	private void checkFetch() {
+		
+		int available = resultSet.getAvailableWithoutFetching();
+		
+		if (available > lastAvailable) {
+			prefetching = false;
+		}
+		
+		lastAvailable = available;
+		
+		if (available > prefetchThreshold || resultSet.isFullyFetched()) {
+			return;
+		}
+		
+		if (available == 0) {
+			
+			if (counters != null) {
+				counters.onBlockingFetch();
+			}
+			
+		}
+		else if (!prefetching) {
+			
+			prefetching = true;
+			resultSet.fetchMoreResults();
+			
+			if (counters != null) {
+				counters.onPrefetch();
+			}
+		}
+	}
+	
+	/**
+	 * Splits off the rows fetched so far, returns null when no rows are available 
+	 * without fetching, so the remaining pages are read sequentially
+	 */
+	
+	@Override
+	public Spliterator<Row> trySplit() {
+		
+		int available = resultSet.getAvailableWithoutFetching();
+		
+		if (available == 0) {
+			return null;
+		}
+		
+		Row[] page = new Row[available];
+		for (int i = 0; i != available; ++i) {
+			page[i] = iterator.next();
+		}
+		
+		if (counters != null) {
+			counters.onRows(available);
+		}
+		
+		return Spliterators.spliterator(page, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+	}
+
+	@Override
+	public long estimateSize() {
+		return resultSet.getAvailableWithoutFetching();
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.ORDERED | Spliterator.NONNULL;
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Publisher that executes the query for every subscriber and emits only rows 
+ * that are already fetched. The next page is requested when the subscriber 
+ * has demand and the fetched rows are consumed, completions of the query and 
+ * page fetches are handled on the executor. An executor that runs tasks in the 
+ * calling thread delivers signals on the driver I/O thread.
+ */
+
+public final class ResultSetPublisher<E> implements Publisher<E> {
+
+	private final Supplier<ListenableFuture<ResultSet>> query;
+	private final Function<ResultSet, Stream<E>> transform;
+	private final Executor executor;
+	
+	public ResultSetPublisher(Supplier<ListenableFuture<ResultSet>> query, 
+			Function<ResultSet, Stream<E>> transform, 
+			Executor executor) {
+		
+		this.query = query;
+		this.transform = transform;
+		this.executor = Objects.requireNonNull(executor, "executor is null");
+	}
+	
+	@Override
+	public void subscribe(Subscriber<? super E> subscriber) {
+		
+		Objects.requireNonNull(subscriber, "subscriber is null");
+		
+		ResultSetSubscription<E> subscription = new ResultSetSubscription<E>(subscriber, transform, executor);
+		
+		subscriber.onSubscribe(subscription);
+		
+		ListenableFuture<ResultSet> future;
+		try {
+			future = query.get();
+		}
+		catch(RuntimeException e) {
+			subscription.error(e);
+			return;
+		}
+		
+		Futures.addCallback(future, subscription, executor);
+	}
+	
+	static final class ResultSetSubscription<E> implements Subscription, FutureCallback<ResultSet> {
+
+		private final Subscriber<? super E> subscriber;
+		private final Function<ResultSet, Stream<E>> transform;
+		private final Executor executor;
+
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		
+		private volatile ResultSet resultSet;
+		private volatile boolean fetching;
+		private volatile boolean cancelled;
+		private volatile Throwable failure;
+		
+		private Iterator<E> iterator;
+		private boolean done;
+		
+		ResultSetSubscription(Subscriber<? super E> subscriber, Function<ResultSet, Stream<E>> transform, Executor executor) {
+			this.subscriber = subscriber;
+			this.transform = transform;
+			this.executor = executor;
+		}
+		
+		@Override
+		public void request(long n) {
+			
+			if (n <= 0) {
+				error(new IllegalArgumentException("non-positive request " + n));
+				return;
+			}
+			
+			long current, next;
+			do {
+				current = requested.get();
+				next = current + n;
+				if (next < 0) {
+					next = Long.MAX_VALUE;
+				}
+			} while (!requested.compareAndSet(current, next));
+			
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		@Override
+		public void onSuccess(ResultSet result) {
+			resultSet = result;
+			drain();
+		}
+
+		@Override
+		public void onFailure(Throwable t) {
+			error(t);
+		}
+		
+		void error(Throwable t) {
+			failure = t;
+			drain();
+		}
+		
+		private void drain() {
+			
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			
+			int missed = 1;
+			
+			do {
+				
+				if (!done) {
+					emit();
+				}
+				
+				missed = wip.addAndGet(-missed);
+				
+			} while (missed != 0);
+			
+		}
+		
+		private void emit() {
+			
+			if (cancelled) {
+				terminate();
+				return;
+			}
+			
+			if (failure != null) {
+				terminate();
+				subscriber.onError(failure);
+				return;
+			}
+			
+			ResultSet rs = resultSet;
+			
+			if (rs == null || fetching) {
+				return;
+			}
+			
+			try {
+				
+				if (iterator == null) {
+					iterator = transform.apply(rs).iterator();
+				}
+				
+				long emitted = 0;
+				long demand = requested.get();
+				
+				while (!cancelled) {
+					
+					int available = rs.getAvailableWithoutFetching();
+					
+					if (available == 0) {
+						
+						if (rs.isFullyFetched()) {
+							terminate();
+							subscriber.onComplete();
+						}
+						else if (emitted != demand) {
+							fetch(rs);
+						}
+						
+						break;
+					}
+					
+					if (emitted == demand) {
+						
+						demand = requested.get();
+						
+						if (emitted == demand) {
+							break;
+						}
+					}
+					
+					subscriber.onNext(iterator.next());
+					emitted++;
+				}
+				
+				if (emitted != 0 && demand != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+				
+			}
+			catch(RuntimeException e) {
+				terminate();
+				subscriber.onError(e);
+			}
+			
+		}
+
+		private void fetch(ResultSet rs) {
+			
+			fetching = true;
+			
+			Futures.addCallback(rs.fetchMoreResults(), new FutureCallback<Void>() {
+
+				@Override
+				public void onSuccess(Void result) {
+					fetching = false;
+					drain();
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					fetching = false;
+					error(t);
+				}
+				
+			}, executor);
+		}
+		
+		private void terminate() {
+			done = true;
+			resultSet = null;
+			iterator = null;
+		}
+		
+	}
+	
+}
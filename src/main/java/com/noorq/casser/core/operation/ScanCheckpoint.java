@@ -0,0 +1,77 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token ranges completed by the scan and the number of splits of the ring, 
+ * can be serialized and passed to the scan to resume it
+ */
+
+public final class ScanCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Set<TokenRange> completed = ConcurrentHashMap.newKeySet();
+	
+	private volatile int splits = 0;
+	
+	/**
+	 * Number of splits of the scan that uses the checkpoint, 0 until the first scan
+	 */
+	
+	public int getSplits() {
+		return splits;
+	}
+	
+	synchronized int useSplits(int requested, boolean explicit) {
+		
+		if (splits == 0) {
+			splits = requested;
+		}
+		else if (explicit && splits != requested) {
+			throw new IllegalArgumentException("checkpoint of " + splits + " splits can not resume the scan of " + requested + " splits");
+		}
+		
+		return splits;
+	}
+	
+	public boolean isCompleted(TokenRange range) {
+		return completed.contains(range);
+	}
+	
+	public void complete(TokenRange range) {
+		completed.add(range);
+	}
+	
+	public Set<TokenRange> getCompleted() {
+		return new TreeSet<TokenRange>(completed);
+	}
+	
+	public int size() {
+		return completed.size();
+	}
+
+	@Override
+	public String toString() {
+		return "ScanCheckpoint [splits=" + splits + ", completed=" + completed.size() + "]";
+	}
+	
+}
@@ -16,25 +16,36 @@
 package com.noorq.casser.core.operation;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.BuiltStatement;
+import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Ordering;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Select.Where;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.noorq.casser.core.AbstractSessionOperations;
 import com.noorq.casser.core.Casser;
 import com.noorq.casser.core.Filter;
@@ -42,10 +53,16 @@ import com.noorq.casser.core.Getter;
 import com.noorq.casser.core.Ordered;
 import com.noorq.casser.core.reflect.CasserPropertyNode;
 import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.ColumnType;
 import com.noorq.casser.mapping.MappingUtil;
 import com.noorq.casser.mapping.OrderingDirection;
-import com.noorq.casser.mapping.value.ColumnValueProvider;
+import com.noorq.casser.mapping.value.ColumnBatch;
+import com.noorq.casser.mapping.value.RowReadPlan;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+import com.noorq.casser.mapping.value.RowView;
 import com.noorq.casser.mapping.value.ValueProviderMap;
+import com.noorq.casser.mapping.value.ValueSnapshotMap;
 import com.noorq.casser.support.CasserMappingException;
 import com.noorq.casser.support.Fun.ArrayTuple;
 
@@ -53,39 +70,33 @@ import com.noorq.casser.support.Fun.ArrayTuple;
 public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, SelectOperation<E>> {
 
 	protected Function<Row, E> rowMapper = null;
+	protected Supplier<Function<Row, E>> rowMapperFactory = null;
+	protected Class<E> entityClass = null;
 	protected final List<CasserPropertyNode> props = new ArrayList<CasserPropertyNode>();
 	
 	protected List<Ordering> ordering = null;
 	protected Integer limit = null;
 	protected boolean allowFiltering = false;
+	protected boolean eagerMapping;
+	protected boolean reversed = false;
+	protected boolean distinct = false;
+	protected Object[] seekValues = null;
+	protected int prefetchThreshold = 0;
+	protected FetchCounters fetchCounters = null;
 	
 	public SelectOperation(AbstractSessionOperations sessionOperations) {
 		super(sessionOperations);
+		this.eagerMapping = sessionOperations.isEagerMapping();
 		
-		this.rowMapper = new Function<Row, E>() {
-
-			@Override
-			public E apply(Row source) {
-				
-				ColumnValueProvider valueProvider = sessionOps.getValueProvider(); 
-				Object[] arr = new Object[props.size()];
-				
-				int i = 0;
-				for (CasserPropertyNode p : props) {
-					Object value = valueProvider.getColumnValue(source, -1, p.getProperty());
-					arr[i++] = value;
-				}
-				
-				return (E) ArrayTuple.of(arr);
-			}
-			
-		};
+		this.rowMapperFactory = this::tupleMapper;
+		this.rowMapper = rowMapperFactory.get();
 	}
 	
 	public SelectOperation(AbstractSessionOperations sessionOperations, 
 			CasserEntity entity) {
 		
 		super(sessionOperations);
+		this.eagerMapping = sessionOperations.isEagerMapping();
 		
 		entity.getOrderedProperties()
 		.stream()
@@ -99,6 +110,7 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 			Function<Row, E> rowMapper) {
 		
 		super(sessionOperations);
+		this.eagerMapping = sessionOperations.isEagerMapping();
 		this.rowMapper = rowMapper;
 		
 		entity.getOrderedProperties()
@@ -108,15 +120,40 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 		
 	}
 
+	public SelectOperation(AbstractSessionOperations sessionOperations, 
+			CasserEntity entity, 
+			Class<E> entityClass) {
+		
+		this(sessionOperations, entity);
+		this.entityClass = entityClass;
+		this.rowMapperFactory = () -> entityMapper(entity, entityClass);
+		this.rowMapper = rowMapperFactory.get();
+		
+	}
+
 	public SelectOperation(AbstractSessionOperations sessionOperations, 
 			Function<Row, E> rowMapper, 
 			CasserPropertyNode... props) {
 		
 		super(sessionOperations);
+		this.eagerMapping = sessionOperations.isEagerMapping();
 		this.rowMapper = rowMapper;
 		Collections.addAll(this.props, props);
 	}
 	
+	/**
+	 * Select with the mapper of every concurrently read result set created by the factory,
+	 * so the read plans of the token ranges are not shared
+	 */
+	
+	public SelectOperation(AbstractSessionOperations sessionOperations, 
+			Supplier<Function<Row, E>> rowMapperFactory, 
+			CasserPropertyNode... props) {
+		
+		this(sessionOperations, rowMapperFactory.get(), props);
+		this.rowMapperFactory = rowMapperFactory;
+	}
+	
 	public CountOperation count() {
 		
 		CasserEntity entity = null;
@@ -145,13 +182,10 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 		CasserEntity entity = Casser.entity(entityClass);
 		
 		this.rowMapper = null;
+		this.rowMapperFactory = null;
+		this.entityClass = null;
 		
-		return new SelectTransformingOperation<R, E>(this, (r) -> {
-
-			Map<String, Object> map = new ValueProviderMap(r, sessionOps.getValueProvider(), entity);
-			return (R) Casser.map(entityClass, map);
-			
-		});
+		return new SelectTransformingOperation<R, E>(this, (Function<E, R>) entityMapper(entity, entityClass));
 	}
 	
 	public <R> SelectTransformingOperation<R, E> map(Function<E, R> fn) {
@@ -161,16 +195,90 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 	public SelectOperation<E> column(Getter<?> getter) {
 		CasserPropertyNode p = MappingUtil.resolveMappingProperty(getter);
 		this.props.add(p);
+		
+		if (rowMapperFactory != null) {
+			this.rowMapper = rowMapperFactory.get();
+		}
+		
 		return this;
 	}
 	
-	public SelectOperation<E> orderBy(Getter<?> getter, OrderingDirection direction) {
-		getOrCreateOrdering().add(new Ordered(getter, direction).getOrdering());
+	/**
+	 * SELECT DISTINCT of the partitions, selected columns must include all partition key columns 
+	 * and can include only partition key and static columns
+	 */
+	
+	public SelectOperation<E> distinct() {
+		this.distinct = true;
 		return this;
 	}
 	
+	/**
+	 * Replaces selected columns of the entity select by the partition key and static columns 
+	 * and selects distinct partitions, other properties of the entities are null. 
+	 * Selects of columns or mapped by the custom row mapper are rejected.
+	 */
+	
+	public SelectOperation<E> distinctPartitions() {
+		
+		if (props.isEmpty()) {
+			throw new CasserMappingException("no entity or table to select data");
+		}
+		
+		CasserEntity entity = props.get(0).getEntity();
+		
+		if (rowMapper != null && entityClass == null) {
+			throw new CasserMappingException("distinct partitions can be selected only as entities or rows of " + entity.getMappingInterface());
+		}
+		
+		props.clear();
+		
+		entity.getOrderedProperties().stream()
+		.filter(p -> p.getColumnType() == ColumnType.PARTITION_KEY || p.getColumnType() == ColumnType.STATIC_COLUMN)
+		.map(p -> new CasserPropertyNode(p, Optional.empty()))
+		.forEach(p -> this.props.add(p));
+		
+		if (rowMapper != null) {
+			this.rowMapperFactory = () -> partitionMapper(entityClass);
+			this.rowMapper = rowMapperFactory.get();
+		}
+		
+		return distinct();
+	}
+	
+	public SelectOperation<E> orderBy(Getter<?> getter, OrderingDirection direction) {
+		return orderBy(new Ordered(getter, direction));
+	}
+	
 	public SelectOperation<E> orderBy(Ordered ordered) {
 		getOrCreateOrdering().add(ordered.getOrdering());
+		
+		CasserPropertyNode node = MappingUtil.resolveMappingProperty(ordered.getGetter());
+		this.reversed = node.getProperty().getOrdering() != ordered.getDirection();
+		
+		return this;
+	}
+	
+	/**
+	 * Continues the query after the row with the given values of the leading clustering 
+	 * columns, in the clustering order of the table or reversed one if orderBy is used. 
+	 * Generates the slice restriction (c1, c2) > (v1, v2), so the cost of the page 
+	 * does not depend on the number of pages before it.
+	 */
+	
+	public SelectOperation<E> seekAfter(Object... clusteringValues) {
+		
+		Objects.requireNonNull(clusteringValues, "clusteringValues is null");
+		
+		if (clusteringValues.length == 0) {
+			throw new IllegalArgumentException("empty clustering values");
+		}
+		
+		for (int i = 0; i != clusteringValues.length; ++i) {
+			Objects.requireNonNull(clusteringValues[i], "clusteringValues[" + i + "] is null");
+		}
+		
+		this.seekValues = clusteringValues;
 		return this;
 	}
 
@@ -184,12 +292,60 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 		return this;
 	}
 	
+	public SelectOperation<E> eagerMapping() {
+		this.eagerMapping = true;
+		return this;
+	}
+	
+	public SelectOperation<E> eagerMapping(boolean enabled) {
+		this.eagerMapping = enabled;
+		return this;
+	}
+	
+	/**
+	 * Requests the next page in the background when no more than threshold 
+	 * fetched rows remain in the stream, 0 disables prefetching
+	 */
+	
+	public SelectOperation<E> prefetch(int threshold) {
+		
+		if (threshold < 0) {
+			throw new IllegalArgumentException("negative prefetch threshold " + threshold);
+		}
+		
+		this.prefetchThreshold = threshold;
+		
+		if (threshold > 0 && fetchCounters == null) {
+			fetchCounters = new FetchCounters();
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Counters of the streams transformed after the first call, 
+	 * rows are not counted unless prefetching or the counters were requested
+	 */
+	
+	public FetchCounters getFetchCounters() {
+		
+		if (fetchCounters == null) {
+			fetchCounters = new FetchCounters();
+		}
+		
+		return fetchCounters;
+	}
+	
 	@Override
 	public BuiltStatement buildStatement() {
 		
 		CasserEntity entity = null;
 		Selection selection = QueryBuilder.select();
 		
+		if (distinct) {
+			selection = selection.distinct();
+		}
+		
 		for (CasserPropertyNode prop : props) {
 			selection = selection.column(prop.getColumnName());
 			
@@ -205,6 +361,10 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 			throw new CasserMappingException("no entity or table to select data");
 		}
 		
+		if (distinct) {
+			checkDistinct(entity);
+		}
+		
 		Select select = selection.from(entity.getName().toCql());
 		
 		if (ordering != null && !ordering.isEmpty()) {
@@ -224,6 +384,10 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 			}
 		}
 		
+		if (seekValues != null) {
+			select.where().and(seekClause(entity));
+		}
+		
 		if (ifFilters != null && !ifFilters.isEmpty()) {
 			logger.error("onlyIf conditions " + ifFilters + " would be ignored in the statement " + select);
 		}
@@ -235,26 +399,367 @@ public final class SelectOperation<E> extends AbstractFilterStreamOperation<E, S
 		return select;
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Statement of the query restricted to the partitions with tokens in the range
+	 */
+	
+	public BuiltStatement buildStatement(TokenRange range) {
+		
+		TokenRange.checkFilters(filters);
+		
+		Select select = (Select) buildStatement();
+		
+		Where where = select.where();
+		range.getClauses(props.get(0).getEntity()).forEach(where::and);
+		
+		return select;
+	}
+	
+	/**
+	 * Stream of the unfiltered select that is split by token ranges, so the parallel 
+	 * stream runs a query per range on the common pool or on the pool that runs 
+	 * the terminal operation. The query is executed lazily, selects with filters, 
+	 * seek or limit are executed eagerly like sync().
+	 */
+	
+	public Stream<E> splitByTokens() {
+		
+		if (isTokenSplittable()) {
+			return StreamSupport.stream(new TokenRangeSpliterator<E>(this, null), false);
+		}
+		
+		return sync();
+	}
+	
+	private boolean isTokenSplittable() {
+		
+		if ((filters != null && !filters.isEmpty()) || seekValues != null || limit != null || props.isEmpty()) {
+			return false;
+		}
+		
+		return TokenRange.MURMUR3_PARTITIONER.equals(sessionOps.getPartitioner());
+	}
+	
+	/**
+	 * Full table scan that runs the query concurrently over token ranges, 
+	 * limit the stream of the scan instead of the select
+	 */
+	
+	public TokenScanOperation<E> scan() {
+		
+		if (limit != null) {
+			throw new CasserMappingException("limit would apply to every token range of the scan, limit the stream instead");
+		}
+		
+		return new TokenScanOperation<E>(this);
+	}
+	
+	/**
+	 * Loads the partitions of the keys with a query per key instead of a single IN query
+	 */
+	
+	public <K> MultiGetOperation<K, E> getAll(Getter<K> keyGetter, Collection<K> keys) {
+		
+		Objects.requireNonNull(keyGetter, "keyGetter is null");
+		Objects.requireNonNull(keys, "keys is null");
+		
+		return new MultiGetOperation<K, E>(this, MappingUtil.resolveMappingProperty(keyGetter), keys);
+	}
+	
+	/**
+	 * Rows of the random fraction of the token ranges, a sample of the table 
+	 */
+	
+	public Stream<E> sample(double fraction) {
+		return scan().sample(fraction).stream();
+	}
+	
 	@Override
 	public Stream<E> transform(ResultSet resultSet) {
+		return mapRows(StreamSupport.stream(new PageSpliterator(resultSet, prefetchThreshold, fetchCounters), false), rowMapper);
+	}
+	
+	/**
+	 * Maps the rows with the new mapper if the select has the mapper factory, 
+	 * for result sets of token ranges read at the same time
+	 */
+	
+	Stream<E> transformRange(ResultSet resultSet) {
+		return mapRows(StreamSupport.stream(new PageSpliterator(resultSet, prefetchThreshold, fetchCounters), false), newRowMapper());
+	}
+	
+	/**
+	 * New mapper if the select has the mapper factory, otherwise the shared mapper or null for rows
+	 */
+	
+	Function<Row, E> newRowMapper() {
+		return rowMapperFactory != null ? rowMapperFactory.get() : rowMapper;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Stream<E> mapRows(Stream<Row> rows, Function<Row, E> rowMapper) {
 		
 		if (rowMapper != null) {
-		
-			return StreamSupport.stream(
-					Spliterators.spliteratorUnknownSize(resultSet.iterator(), Spliterator.ORDERED)
-					, false).map(rowMapper);
+			return rows.map(rowMapper);
 		}
 		
 		else {
+			return (Stream<E>) rows;
+		}
+	}
+	
+	/**
+	 * Executes the query for a single page of pageSize rows, starting from 
+	 * the cursor of the previous page or from the beginning if the cursor is null
+	 */
+	
+	public Page<E> page(int pageSize, PageCursor cursor) {
+		
+		ResultSet resultSet = sessionOps.executeAsync(pageStatement(pageSize, cursor), showValues).getUninterruptibly();
+		
+		return toPage(resultSet);
+	}
+	
+	public Page<E> page(int pageSize) {
+		return page(pageSize, null);
+	}
+	
+	public ListenableFuture<Page<E>> pageAsync(int pageSize, PageCursor cursor) {
+		
+		ResultSetFuture resultSetFuture = sessionOps.executeAsync(pageStatement(pageSize, cursor), showValues);
+		
+		return Futures.transform(resultSetFuture, new com.google.common.base.Function<ResultSet, Page<E>>() {
+
+			@Override
+			public Page<E> apply(ResultSet resultSet) {
+				return toPage(resultSet);
+			}
+			
+		}, sessionOps.getExecutor());
+	}
+	
+	private Statement pageStatement(int pageSize, PageCursor cursor) {
+		
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("non-positive page size " + pageSize);
+		}
+		
+		Statement statement = options(buildStatement());
+		statement.setFetchSize(pageSize);
+		
+		if (cursor != null) {
+			statement.setPagingState(cursor.getPagingState());
+		}
+		
+		return statement;
+	}
+	
+	private Page<E> toPage(ResultSet resultSet) {
+		
+		int available = resultSet.getAvailableWithoutFetching();
+		
+		List<E> items = mapRows(StreamSupport.stream(new PageSpliterator(resultSet), false), rowMapper)
+				.limit(available)
+				.collect(Collectors.toList());
+		
+		PagingState next = resultSet.getExecutionInfo().getPagingState();
 		
-			return (Stream<E>) StreamSupport.stream(
-					Spliterators.spliteratorUnknownSize(resultSet.iterator(), Spliterator.ORDERED)
-					, false);
+		return new Page<E>(items, Optional.ofNullable(next).map(PageCursor::of));
+	}
 
+	/**
+	 * Executes the query and passes every row to the consumer through the same 
+	 * RowView instance, that is valid only during the call.
+	 */
+	
+	public void forEach(Consumer<RowView> consumer) {
+		
+		Objects.requireNonNull(consumer, "consumer is null");
+		
+		ResultSet resultSet = sessionOps.executeAsync(options(buildStatement()), showValues).getUninterruptibly();
+		
+		transformRows(resultSet, consumer);
+	}
+	
+	public void transformRows(ResultSet resultSet, Consumer<RowView> consumer) {
+		
+		RowView view = new RowView(new RowReadPlanner(sessionOps.getSessionRepository(), 
+				props.stream().map(p -> p.getProperty()).collect(Collectors.toList())));
+		
+		for (Row row : resultSet) {
+			consumer.accept(view.set(row));
 		}
+		
+	}
+	
+	/**
+	 * Executes the query and passes every fetched page to the consumer as 
+	 * a ColumnBatch of the selected properties, instead of mapping rows one by one. 
+	 */
+	
+	public void forEachBatch(Consumer<ColumnBatch> consumer) {
+		
+		Objects.requireNonNull(consumer, "consumer is null");
+		
+		ResultSet resultSet = sessionOps.executeAsync(options(buildStatement()), showValues).getUninterruptibly();
+		
+		transformBatches(resultSet, consumer);
+	}
+	
+	public void transformBatches(ResultSet resultSet, Consumer<ColumnBatch> consumer) {
+		
+		RowReadPlanner planner = new RowReadPlanner(sessionOps.getSessionRepository(), 
+				props.stream().map(p -> p.getProperty()).collect(Collectors.toList()));
+		
+		Iterator<Row> rows = resultSet.iterator();
+		
+		while (!resultSet.isExhausted()) {
+			consumer.accept(ColumnBatch.read(rows, resultSet.getAvailableWithoutFetching(), planner));
+		}
+		
 	}
 
+	private void checkDistinct(CasserEntity entity) {
+		
+		for (CasserPropertyNode prop : props) {
+			ColumnType columnType = prop.getProperty().getColumnType();
+			if (columnType != ColumnType.PARTITION_KEY && columnType != ColumnType.STATIC_COLUMN) {
+				throw new CasserMappingException("distinct select can contain only partition key and static columns, but found " 
+						+ prop.getProperty().getPropertyName() + " in " + entity.getMappingInterface());
+			}
+		}
+		
+		for (CasserProperty prop : entity.getOrderedProperties()) {
+			if (prop.getColumnType() == ColumnType.PARTITION_KEY 
+					&& props.stream().noneMatch(p -> p.getProperty().getPropertyName().equals(prop.getPropertyName()))) {
+				throw new CasserMappingException("distinct select must contain all partition key columns, but misses " 
+						+ prop.getPropertyName() + " in " + entity.getMappingInterface());
+			}
+		}
+		
+		if ((ordering != null && !ordering.isEmpty()) || seekValues != null) {
+			throw new CasserMappingException("distinct select can not be ordered by clustering columns in " + entity.getMappingInterface());
+		}
+		
+		if (filters != null) {
+			for (Filter<?> filter : filters) {
+				if (filter.getNode().getProperty().getColumnType() != ColumnType.PARTITION_KEY) {
+					throw new CasserMappingException("distinct select can be filtered only by partition key columns, but found " 
+							+ filter + " in " + entity.getMappingInterface());
+				}
+			}
+		}
+	}
+	
+	private Clause seekClause(CasserEntity entity) {
+		
+		List<CasserProperty> clustering = entity.getOrderedProperties().stream()
+				.filter(p -> p.getColumnType() == ColumnType.CLUSTERING_COLUMN)
+				.sorted(Comparator.comparingInt(CasserProperty::getOrdinal))
+				.collect(Collectors.toList());
+		
+		if (seekValues.length > clustering.size()) {
+			throw new CasserMappingException("expected at most " + clustering.size() + " clustering values in " 
+					+ entity.getMappingInterface() + " but got " + seekValues.length);
+		}
+		
+		List<String> columns = new ArrayList<String>(seekValues.length);
+		List<Object> values = new ArrayList<Object>(seekValues.length);
+		OrderingDirection direction = null;
+		
+		for (int i = 0; i != seekValues.length; ++i) {
+			
+			CasserProperty prop = clustering.get(i);
+			
+			OrderingDirection columnDirection = prop.getOrdering();
+			if (reversed) {
+				columnDirection = columnDirection == OrderingDirection.ASC ? OrderingDirection.DESC : OrderingDirection.ASC;
+			}
+			
+			if (direction == null) {
+				direction = columnDirection;
+			}
+			else if (direction != columnDirection) {
+				throw new CasserMappingException("seek over clustering columns with mixed ordering is not supported " 
+						+ prop.getPropertyName() + " in " + entity.getMappingInterface());
+			}
+			
+			columns.add(prop.getColumnName().toCql());
+			values.add(sessionOps.getValuePreparer().prepareColumnValue(seekValues[i], prop));
+		}
+		
+		if (columns.size() == 1) {
+			return direction == OrderingDirection.ASC ? 
+					QueryBuilder.gt(columns.get(0), values.get(0)) :
+					QueryBuilder.lt(columns.get(0), values.get(0));
+		}
+		
+		return direction == OrderingDirection.ASC ? 
+				QueryBuilder.gt(columns, values) :
+				QueryBuilder.lt(columns, values);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Function<Row, E> tupleMapper() {
+		
+		RowReadPlanner planner = new RowReadPlanner(sessionOps.getSessionRepository(), 
+				props.stream().map(p -> p.getProperty()).collect(Collectors.toList()));
+		
+		return (r) -> {
+			
+			RowReadPlan plan = planner.getPlan(r);
+			Object[] arr = new Object[plan.size()];
+			
+			for (int i = 0; i != arr.length; ++i) {
+				arr[i] = plan.getValue(r, i);
+			}
+			
+			return (E) ArrayTuple.of(arr);
+			
+		};
+	}
+	
+	/**
+	 * Maps the selected partition key and static columns, other properties are absent in the map
+	 */
+	
+	private Function<Row, E> partitionMapper(Class<E> entityClass) {
+		
+		List<CasserProperty> properties = props.stream().map(p -> p.getProperty()).collect(Collectors.toList());
+		
+		RowReadPlanner planner = new RowReadPlanner(sessionOps.getSessionRepository(), properties);
+		
+		return (r) -> {
+			
+			RowReadPlan plan = planner.getPlan(r);
+			
+			Map<String, Object> map = new HashMap<String, Object>();
+			
+			for (int i = 0; i != plan.size(); ++i) {
+				map.put(properties.get(i).getPropertyName(), plan.getValue(r, i));
+			}
+			
+			return Casser.map(entityClass, map);
+			
+		};
+	}
+	
+	private <R> Function<Row, R> entityMapper(CasserEntity entity, Class<R> entityClass) {
+		
+		RowReadPlanner planner = RowReadPlanner.forEntity(sessionOps.getSessionRepository(), entity);
+		
+		return (r) -> {
+			
+			RowReadPlan plan = planner.getPlan(r);
+			
+			Map<String, Object> map = eagerMapping ? 
+					new ValueSnapshotMap(r, plan, entity) :
+					new ValueProviderMap(r, plan, entity);
+					
+			return (R) Casser.map(entityClass, map);
+			
+		};
+	}
 
 	private List<Ordering> getOrCreateOrdering() {
 		if (ordering == null) {
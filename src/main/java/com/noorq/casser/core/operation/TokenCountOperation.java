@@ -0,0 +1,261 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.UnavailableException;
+import com.noorq.casser.support.CasserException;
+
+/**
+ * Exact count of the rows that runs a count query per token range, at most parallelism 
+ * queries at the same time. The range query is retried after the timeout or when replicas 
+ * are unavailable, the count fails when the range fails more than retries times or on 
+ * any other error.
+ */
+
+public final class TokenCountOperation {
+
+	private static final int DEFAULT_SAMPLE_SPLITS = 256;
+	
+	private final CountOperation count;
+	
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private int splits = 0;
+	private int retries = 2;
+	private long timeoutMillis = 0;
+	private Consumer<CountProgress> progress = null;
+	private ExecutorService executor = null;
+	private double sampleFraction = 1.0;
+	private double confidence = 0.95;
+	private Random random = new Random();
+	
+	public TokenCountOperation(CountOperation count) {
+		this.count = count;
+	}
+	
+	public TokenCountOperation parallelism(int parallelism) {
+		
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("non-positive parallelism " + parallelism);
+		}
+		
+		this.parallelism = parallelism;
+		return this;
+	}
+	
+	/**
+	 * Number of token ranges, by default four ranges per concurrent query
+	 */
+	
+	public TokenCountOperation splits(int splits) {
+		
+		if (splits <= 0) {
+			throw new IllegalArgumentException("non-positive splits " + splits);
+		}
+		
+		this.splits = splits;
+		return this;
+	}
+	
+	public TokenCountOperation retries(int retries) {
+		
+		if (retries < 0) {
+			throw new IllegalArgumentException("negative retries " + retries);
+		}
+		
+		this.retries = retries;
+		return this;
+	}
+	
+	/**
+	 * Timeout of the single range query, by default waits for the driver
+	 */
+	
+	public TokenCountOperation timeout(long timeout, TimeUnit unit) {
+		this.timeoutMillis = unit.toMillis(timeout);
+		return this;
+	}
+	
+	/**
+	 * Consumer is called after each completed range, possibly concurrently
+	 */
+	
+	public TokenCountOperation progress(Consumer<CountProgress> progress) {
+		this.progress = progress;
+		return this;
+	}
+	
+	public TokenCountOperation executor(ExecutorService executor) {
+		this.executor = executor;
+		return this;
+	}
+	
+	/**
+	 * Fraction of the token ranges counted by estimate()
+	 */
+	
+	public TokenCountOperation sample(double fraction) {
+		
+		if (fraction <= 0.0 || fraction > 1.0) {
+			throw new IllegalArgumentException("sample fraction out of (0, 1] " + fraction);
+		}
+		
+		this.sampleFraction = fraction;
+		return this;
+	}
+	
+	public TokenCountOperation confidence(double confidence) {
+		
+		if (confidence <= 0.0 || confidence >= 1.0) {
+			throw new IllegalArgumentException("confidence out of (0, 1) " + confidence);
+		}
+		
+		this.confidence = confidence;
+		return this;
+	}
+	
+	public TokenCountOperation random(Random random) {
+		this.random = random;
+		return this;
+	}
+	
+	public List<TokenRange> getRanges() {
+		return TokenRange.splitRing(splits > 0 ? splits : parallelism * 4);
+	}
+	
+	public long sync() {
+		
+		TokenRange.checkPartitioner(count.sessionOps.getPartitioner());
+		TokenRange.checkFilters(count.filters);
+		
+		List<TokenRange> ranges = getRanges();
+		
+		LongAdder total = new LongAdder();
+		AtomicInteger completed = new AtomicInteger();
+		
+		TokenRangeExecutor.run(ranges, parallelism, executor, range -> {
+			
+			total.add(countRange(range));
+			
+			int done = completed.incrementAndGet();
+			
+			if (progress != null) {
+				progress.accept(new CountProgress(done, ranges.size(), total.sum()));
+			}
+		});
+		
+		return total.sum();
+	}
+	
+	/**
+	 * Counts the random sample of the token ranges and extrapolates it to the ring, 
+	 * by default the ring is split in 256 ranges
+	 */
+	
+	public CountEstimate estimate() {
+		
+		TokenRange.checkPartitioner(count.sessionOps.getPartitioner());
+		TokenRange.checkFilters(count.filters);
+		
+		List<TokenRange> ranges = TokenRange.splitRing(splits > 0 ? splits : DEFAULT_SAMPLE_SPLITS);
+		List<TokenRange> sampled = TokenRange.sample(ranges, sampleFraction, random);
+		
+		long[] counts = new long[sampled.size()];
+		LongAdder total = new LongAdder();
+		AtomicInteger completed = new AtomicInteger();
+		
+		TokenRangeExecutor.run(sampled, parallelism, executor, range -> {
+			
+			long rangeCount = countRange(range);
+			
+			counts[Collections.binarySearch(sampled, range)] = rangeCount;
+			total.add(rangeCount);
+			
+			int done = completed.incrementAndGet();
+			
+			if (progress != null) {
+				progress.accept(new CountProgress(done, sampled.size(), total.sum()));
+			}
+		});
+		
+		return CountEstimate.of(counts, ranges.size(), confidence);
+	}
+	
+	private long countRange(TokenRange range) {
+		
+		Statement statement = count.options(count.buildStatement(range));
+		
+		for (int attempt = 0;; ++attempt) {
+			
+			ResultSetFuture future = null;
+			
+			try {
+				
+				future = count.sessionOps.executeAsync(statement, count.showValues);
+				
+				if (timeoutMillis > 0) {
+					return count.transform(future.get(timeoutMillis, TimeUnit.MILLISECONDS));
+				}
+				
+				return count.transform(future.getUninterruptibly());
+				
+			}
+			catch(InterruptedException e) {
+				future.cancel(true);
+				Thread.currentThread().interrupt();
+				throw new CasserException(e);
+			}
+			catch(TimeoutException | ExecutionException | RuntimeException e) {
+				
+				if (future != null) {
+					future.cancel(true);
+				}
+				
+				Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+				
+				if (!isTransient(cause)) {
+					throw new CasserException("count failed in the attempt " + (attempt + 1), cause);
+				}
+				
+				if (attempt >= retries) {
+					throw new CasserException("count failed after " + (attempt + 1) + " attempts", cause);
+				}
+			}
+		}
+	}
+	
+	private static boolean isTransient(Throwable t) {
+		return t instanceof TimeoutException 
+				|| t instanceof ReadTimeoutException 
+				|| t instanceof UnavailableException 
+				|| t instanceof NoHostAvailableException;
+	}
+	
+}
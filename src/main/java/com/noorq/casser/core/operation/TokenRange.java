@@ -0,0 +1,219 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.datastax.driver.core.querybuilder.Clause;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.noorq.casser.core.Filter;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.ColumnType;
+import com.noorq.casser.support.CasserException;
+import com.noorq.casser.support.CasserMappingException;
+
+/**
+ * Range of Murmur3Partitioner tokens (start, end], the start is exclusive and the end is inclusive 
+ */
+
+public final class TokenRange implements Serializable, Comparable<TokenRange> {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final String MURMUR3_PARTITIONER = "org.apache.cassandra.dht.Murmur3Partitioner";
+
+	public static final TokenRange RING = new TokenRange(Long.MIN_VALUE, Long.MAX_VALUE);
+	
+	private static final BigInteger RING_SIZE = width(Long.MIN_VALUE, Long.MAX_VALUE);
+	
+	private final long start;
+	private final long end;
+	
+	public TokenRange(long start, long end) {
+		
+		if (start >= end) {
+			throw new IllegalArgumentException("empty or wrapped token range (" + start + ", " + end + "]");
+		}
+		
+		this.start = start;
+		this.end = end;
+	}
+	
+	public static List<TokenRange> splitRing(int count) {
+		return RING.split(count);
+	}
+	
+	public static void checkPartitioner(String partitioner) {
+		if (!MURMUR3_PARTITIONER.equals(partitioner)) {
+			throw new CasserException("token range queries support only " + MURMUR3_PARTITIONER + ", but cluster uses " + partitioner);
+		}
+	}
+	
+	public long getStart() {
+		return start;
+	}
+
+	public long getEnd() {
+		return end;
+	}
+	
+	public boolean contains(long token) {
+		return token > start && token <= end;
+	}
+	
+	/**
+	 * Part of the whole token ring covered by the range 
+	 */
+	
+	public double getRingFraction() {
+		return width(start, end).doubleValue() / RING_SIZE.doubleValue();
+	}
+	
+	public boolean canSplit(int count) {
+		return count > 0 && width(start, end).compareTo(BigInteger.valueOf(count)) >= 0;
+	}
+	
+	/**
+	 * Splits the range to count adjacent ranges of almost equal width
+	 */
+	
+	public List<TokenRange> split(int count) {
+		
+		if (count <= 0) {
+			throw new IllegalArgumentException("non-positive count " + count);
+		}
+		
+		if (!canSplit(count)) {
+			throw new IllegalArgumentException("range " + this + " is too small to split in " + count);
+		}
+		
+		BigInteger width = width(start, end);
+		
+		List<TokenRange> ranges = new ArrayList<TokenRange>(count);
+		
+		BigInteger begin = BigInteger.valueOf(start);
+		long prev = start;
+		
+		for (int i = 1; i != count; ++i) {
+			long next = begin.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count))).longValue();
+			ranges.add(new TokenRange(prev, next));
+			prev = next;
+		}
+		
+		ranges.add(new TokenRange(prev, end));
+		
+		return ranges;
+	}
+	
+	/**
+	 * Random subset of the ranges in the token order, at least one range
+	 */
+	
+	public static List<TokenRange> sample(List<TokenRange> ranges, double fraction, Random random) {
+		
+		if (fraction <= 0.0 || fraction > 1.0) {
+			throw new IllegalArgumentException("sample fraction out of (0, 1] " + fraction);
+		}
+		
+		int count = Math.max(1, (int) Math.ceil(ranges.size() * fraction));
+		
+		List<TokenRange> shuffled = new ArrayList<TokenRange>(ranges);
+		Collections.shuffle(shuffled, random);
+		
+		List<TokenRange> sampled = new ArrayList<TokenRange>(shuffled.subList(0, count));
+		Collections.sort(sampled);
+		
+		return sampled;
+	}
+	
+	/**
+	 * Restriction of the partition key token of the entity to the range 
+	 */
+	
+	public List<Clause> getClauses(CasserEntity entity) {
+		
+		String[] partitionKeys = entity.getOrderedProperties().stream()
+				.filter(p -> p.getColumnType() == ColumnType.PARTITION_KEY)
+				.sorted(Comparator.comparingInt(CasserProperty::getOrdinal))
+				.map(p -> p.getColumnName().toCql())
+				.toArray(String[]::new);
+		
+		if (partitionKeys.length == 0) {
+			throw new CasserMappingException("no partition key in " + entity.getMappingInterface());
+		}
+		
+		String token = QueryBuilder.token(partitionKeys);
+		
+		return Arrays.asList(QueryBuilder.gt(token, start), QueryBuilder.lte(token, end));
+	}
+	
+	static void checkFilters(List<Filter<?>> filters) {
+		
+		if (filters == null) {
+			return;
+		}
+		
+		for (Filter<?> filter : filters) {
+			if (filter.getNode().getProperty().getColumnType() == ColumnType.PARTITION_KEY) {
+				throw new CasserMappingException("token range query can not have partition key filter " + filter);
+			}
+		}
+	}
+	
+	private static BigInteger width(long start, long end) {
+		return BigInteger.valueOf(end).subtract(BigInteger.valueOf(start));
+	}
+	
+	@Override
+	public int compareTo(TokenRange o) {
+		int cmp = Long.compare(start, o.start);
+		return cmp != 0 ? cmp : Long.compare(end, o.end);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Long.hashCode(start) + Long.hashCode(end);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		
+		if (this == obj) {
+			return true;
+		}
+		
+		if (!(obj instanceof TokenRange)) {
+			return false;
+		}
+		
+		TokenRange other = (TokenRange) obj;
+		return start == other.start && end == other.end;
+	}
+
+	@Override
+	public String toString() {
+		return "(" + start + ", " + end + "]";
+	}
+	
+}
@@ -0,0 +1,105 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.noorq.casser.support.CasserException;
+
+/**
+ * Runs the task for every token range, at most parallelism tasks at the same time,
+ * stops submitting tasks after the first failure and rethrows it
+ */
+
+final class TokenRangeExecutor {
+
+	private TokenRangeExecutor() {
+	}
+	
+	static void run(List<TokenRange> ranges, int parallelism, ExecutorService executor, Consumer<TokenRange> task) {
+		
+		ExecutorService pool = executor != null ? executor : 
+			Executors.newFixedThreadPool(parallelism, 
+					new ThreadFactoryBuilder().setNameFormat("casser-token-range-%d").setDaemon(true).build());
+		
+		Semaphore permits = new Semaphore(parallelism);
+		AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		List<Future<?>> futures = new ArrayList<Future<?>>(ranges.size());
+		
+		try {
+			
+			for (TokenRange range : ranges) {
+				
+				permits.acquireUninterruptibly();
+				
+				if (failure.get() != null) {
+					permits.release();
+					break;
+				}
+				
+				futures.add(pool.submit(() -> {
+					try {
+						task.accept(range);
+					}
+					catch(Throwable t) {
+						failure.compareAndSet(null, new CasserException("failed in the token range " + range, t));
+					}
+					finally {
+						permits.release();
+					}
+				}));
+			}
+			
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new CasserException(e);
+				}
+				catch(ExecutionException e) {
+					failure.compareAndSet(null, e.getCause());
+				}
+			}
+			
+		}
+		finally {
+			if (pool != executor) {
+				pool.shutdownNow();
+			}
+		}
+		
+		Throwable t = failure.get();
+		if (t != null) {
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException) t;
+			}
+			throw new CasserException(t);
+		}
+		
+	}
+	
+}
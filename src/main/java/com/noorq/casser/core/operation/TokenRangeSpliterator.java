@@ -0,0 +1,102 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Spliterator of the unfiltered select that is not executed until the first 
+ * element is requested, until then trySplit divides the token range in halves, 
+ * so parallel streams run a query per token range. Without splits the query 
+ * is executed without token restrictions.
+ */
+
+final class TokenRangeSpliterator<E> implements Spliterator<E> {
+
+	private final SelectOperation<E> select;
+	
+	private TokenRange range;
+	private Spliterator<E> current;
+	
+	TokenRangeSpliterator(SelectOperation<E> select, TokenRange range) {
+		this.select = select;
+		this.range = range;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super E> action) {
+		return start().tryAdvance(action);
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super E> action) {
+		start().forEachRemaining(action);
+	}
+	
+	private Spliterator<E> start() {
+		
+		if (current == null) {
+			
+			Statement statement = range == null ? select.buildStatement() : select.buildStatement(range);
+			
+			ResultSet resultSet = select.sessionOps.executeAsync(select.options(statement), select.showValues).getUninterruptibly();
+			
+			current = select.transformRange(resultSet).spliterator();
+		}
+		
+		return current;
+	}
+
+	@Override
+	public Spliterator<E> trySplit() {
+		
+		if (current != null) {
+			return null;
+		}
+		
+		TokenRange whole = range != null ? range : TokenRange.RING;
+		
+		if (!whole.canSplit(2)) {
+			return null;
+		}
+		
+		List<TokenRange> halves = whole.split(2);
+		this.range = halves.get(1);
+		
+		return new TokenRangeSpliterator<E>(select, halves.get(0));
+	}
+
+	@Override
+	public long estimateSize() {
+		
+		if (current != null) {
+			return current.estimateSize();
+		}
+		
+		return range == null ? Long.MAX_VALUE : (long) (Long.MAX_VALUE * range.getRingFraction());
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.ORDERED | Spliterator.NONNULL;
+	}
+
+}
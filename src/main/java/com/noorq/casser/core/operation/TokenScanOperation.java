@@ -0,0 +1,182 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.datastax.driver.core.ResultSet;
+
+/**
+ * Runs the select query over token ranges of the ring, at most parallelism 
+ * ranges at the same time. Completed ranges are recorded in the checkpoint, 
+ * ranges already completed in the checkpoint are skipped.
+ */
+
+public final class TokenScanOperation<E> {
+
+	private final SelectOperation<E> select;
+	
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private int splits = 0;
+	private ScanCheckpoint checkpoint = null;
+	private ExecutorService executor = null;
+	private double sampleFraction = 1.0;
+	private Random random = new Random();
+	
+	public TokenScanOperation(SelectOperation<E> select) {
+		this.select = select;
+	}
+	
+	public TokenScanOperation<E> parallelism(int parallelism) {
+		
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("non-positive parallelism " + parallelism);
+		}
+		
+		this.parallelism = parallelism;
+		return this;
+	}
+	
+	/**
+	 * Number of token ranges, by default four ranges per concurrent query 
+	 * or the number of splits recorded in the checkpoint
+	 */
+	
+	public TokenScanOperation<E> splits(int splits) {
+		
+		if (splits <= 0) {
+			throw new IllegalArgumentException("non-positive splits " + splits);
+		}
+		
+		this.splits = splits;
+		return this;
+	}
+	
+	public TokenScanOperation<E> checkpoint(ScanCheckpoint checkpoint) {
+		this.checkpoint = checkpoint;
+		return this;
+	}
+
+	/**
+	 * Executor for range queries, by default the scan creates its own pool of parallelism threads
+	 */
+	
+	public TokenScanOperation<E> executor(ExecutorService executor) {
+		this.executor = executor;
+		return this;
+	}
+	
+	/**
+	 * Scans only the random fraction of the token ranges
+	 */
+	
+	public TokenScanOperation<E> sample(double fraction) {
+		
+		if (fraction <= 0.0 || fraction > 1.0) {
+			throw new IllegalArgumentException("sample fraction out of (0, 1] " + fraction);
+		}
+		
+		this.sampleFraction = fraction;
+		return this;
+	}
+	
+	public TokenScanOperation<E> random(Random random) {
+		this.random = random;
+		return this;
+	}
+	
+	/**
+	 * Ranges to scan, excluding completed in the checkpoint
+	 */
+	
+	public List<TokenRange> getRanges() {
+		
+		int count = splits > 0 ? splits : parallelism * 4;
+		
+		if (checkpoint != null) {
+			count = checkpoint.useSplits(count, splits > 0);
+		}
+		
+		List<TokenRange> ranges = TokenRange.splitRing(count);
+		
+		if (sampleFraction < 1.0) {
+			ranges = TokenRange.sample(ranges, sampleFraction, random);
+		}
+		
+		return ranges.stream()
+				.filter(r -> checkpoint == null || !checkpoint.isCompleted(r))
+				.collect(Collectors.toList());
+	}
+	
+	/**
+	 * Stream of the rows in the ranges, the range query is executed when the stream reaches it
+	 */
+	
+	public Stream<E> stream() {
+		
+		TokenRange.checkPartitioner(select.sessionOps.getPartitioner());
+		
+		return StreamSupport.stream(new TokenScanSpliterator<E>(this::queryRange, getRanges()), false);
+	}
+	
+	public void forEach(Consumer<? super E> consumer) {
+		
+		Objects.requireNonNull(consumer, "consumer is null");
+		
+		forEachRange((range, stream) -> stream.forEach(consumer));
+	}
+
+	/**
+	 * Passes the stream of every range to the consumer, consumer is called concurrently 
+	 * and the range is completed in the checkpoint when the consumer returns
+	 */
+	
+	public void forEachRange(BiConsumer<TokenRange, Stream<E>> consumer) {
+		
+		Objects.requireNonNull(consumer, "consumer is null");
+		
+		TokenRange.checkPartitioner(select.sessionOps.getPartitioner());
+		
+		TokenRangeExecutor.run(getRanges(), parallelism, executor, range -> scanRange(range, consumer));
+	}
+	
+	private Stream<E> queryRange(TokenRange range) {
+		
+		ResultSet resultSet = select.sessionOps.executeAsync(select.options(select.buildStatement(range)), select.showValues).getUninterruptibly();
+		
+		return select.transformRange(resultSet);
+	}
+	
+	private void scanRange(TokenRange range, BiConsumer<TokenRange, Stream<E>> consumer) {
+		
+		try (Stream<E> stream = queryRange(range)) {
+			consumer.accept(range, stream);
+		}
+		
+		if (checkpoint != null) {
+			checkpoint.complete(range);
+		}
+	}
+	
+}
@@ -0,0 +1,114 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.operation;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Spliterator that concatenates the streams of the token ranges, the range query 
+ * is executed when the previous range is consumed, so short-circuiting operations 
+ * stop before querying the remaining ranges. Splits off the first half of the 
+ * ranges that are not started yet.
+ */
+
+final class TokenScanSpliterator<E> implements Spliterator<E> {
+
+	private final Function<TokenRange, Stream<E>> query;
+	private final List<TokenRange> ranges;
+	
+	private int index;
+	private final int end;
+	private Spliterator<E> current;
+	
+	TokenScanSpliterator(Function<TokenRange, Stream<E>> query, List<TokenRange> ranges) {
+		this(query, ranges, 0, ranges.size());
+	}
+	
+	private TokenScanSpliterator(Function<TokenRange, Stream<E>> query, List<TokenRange> ranges, int index, int end) {
+		this.query = query;
+		this.ranges = ranges;
+		this.index = index;
+		this.end = end;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super E> action) {
+		
+		while (true) {
+			
+			if (current != null && current.tryAdvance(action)) {
+				return true;
+			}
+			
+			if (index == end) {
+				current = null;
+				return false;
+			}
+			
+			current = query.apply(ranges.get(index++)).spliterator();
+		}
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super E> action) {
+		
+		if (current != null) {
+			current.forEachRemaining(action);
+			current = null;
+		}
+		
+		while (index != end) {
+			query.apply(ranges.get(index++)).spliterator().forEachRemaining(action);
+		}
+	}
+	
+	@Override
+	public Spliterator<E> trySplit() {
+		
+		int remaining = end - index;
+		
+		if (current != null || remaining < 2) {
+			return null;
+		}
+		
+		int mid = index + remaining / 2;
+		
+		Spliterator<E> prefix = new TokenScanSpliterator<E>(query, ranges, index, mid);
+		this.index = mid;
+		
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		
+		if (index == end) {
+			return current != null ? current.estimateSize() : 0;
+		}
+		
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.ORDERED | Spliterator.NONNULL;
+	}
+
+}
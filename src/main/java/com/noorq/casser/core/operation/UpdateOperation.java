@@ -226,31 +226,11 @@ public final class UpdateOperation extends AbstractFilterOperation<ResultSet, Up
 	}
 	
 	private Object prepareSingleListValue(CasserPropertyNode p, Object value) {
-		CasserProperty prop = p.getProperty();
-
-		Object valueObj = value;
-		
-		Optional<Function<Object, Object>> converter = prop.getWriteConverter(sessionOps.getSessionRepository());
-		if (converter.isPresent()) {
-			List convertedList = (List) converter.get().apply(Immutables.listOf(value));
-			valueObj = convertedList.get(0);
-		}
-		
-		return valueObj;
+		return p.getProperty().getCodec(sessionOps.getSessionRepository()).writeElement(value);
 	}
 	
 	private List prepareListValue(CasserPropertyNode p, List value) {
-		
-		CasserProperty prop = p.getProperty();
-		
-		List valueObj = value;
-		
-		Optional<Function<Object, Object>> converter = prop.getWriteConverter(sessionOps.getSessionRepository());
-		if (converter.isPresent()) {
-			valueObj = (List) converter.get().apply(value);
-		}
-
-		return valueObj;
+		return (List) p.getProperty().getCodec(sessionOps.getSessionRepository()).write(value);
 	}
 	
 	/*
@@ -318,30 +298,11 @@ public final class UpdateOperation extends AbstractFilterOperation<ResultSet, Up
 	}
 	
 	private Object prepareSingleSetValue(CasserPropertyNode p, Object value) {
-		
-		CasserProperty prop = p.getProperty();
-		Object valueObj = value;
-		
-		Optional<Function<Object, Object>> converter = prop.getWriteConverter(sessionOps.getSessionRepository());
-		if (converter.isPresent()) {
-			Set convertedSet = (Set) converter.get().apply(Immutables.setOf(value));
-			valueObj = convertedSet.iterator().next();
-		}
-		
-		return valueObj;
+		return p.getProperty().getCodec(sessionOps.getSessionRepository()).writeElement(value);
 	}
 	
 	private Set prepareSetValue(CasserPropertyNode p, Set value) {
-		
-		CasserProperty prop = p.getProperty();
-		Set valueObj = value;
-		
-		Optional<Function<Object, Object>> converter = prop.getWriteConverter(sessionOps.getSessionRepository());
-		if (converter.isPresent()) {
-			valueObj = (Set) converter.get().apply(value);
-		}
-		
-		return valueObj;
+		return (Set) p.getProperty().getCodec(sessionOps.getSessionRepository()).write(value);
 	}
 	
 	/*
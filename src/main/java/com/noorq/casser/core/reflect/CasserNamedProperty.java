@@ -29,8 +29,10 @@ import com.noorq.casser.mapping.ColumnType;
 import com.noorq.casser.mapping.IdentityName;
 import com.noorq.casser.mapping.MappingUtil;
 import com.noorq.casser.mapping.OrderingDirection;
+import com.noorq.casser.mapping.PropertyCodec;
 import com.noorq.casser.mapping.type.AbstractDataType;
 import com.noorq.casser.support.CasserMappingException;
+import com.noorq.casser.support.StringDictionary;
 
 public final class CasserNamedProperty implements CasserProperty {
 
@@ -90,6 +92,16 @@ public final class CasserNamedProperty implements CasserProperty {
 		return OrderingDirection.ASC;
 	}
 
+	@Override
+	public boolean isLazyCollection() {
+		return false;
+	}
+
+	@Override
+	public Optional<StringDictionary> getStringDictionary() {
+		return Optional.empty();
+	}
+
 	@Override
 	public Optional<Function<Object, Object>> getReadConverter(
 			SessionRepository repository) {
@@ -101,6 +113,11 @@ public final class CasserNamedProperty implements CasserProperty {
 			SessionRepository repository) {
 		return Optional.empty();
 	}
+
+	@Override
+	public PropertyCodec getCodec(SessionRepository repository) {
+		return PropertyCodec.IDENTITY;
+	}
 	
 	@Override
 	public ConstraintValidator<? extends Annotation, ?>[] getValidators() {
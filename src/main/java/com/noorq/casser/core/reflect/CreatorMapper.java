@@ -0,0 +1,311 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.annotation.Creator;
+import com.noorq.casser.mapping.annotation.Param;
+import com.noorq.casser.mapping.value.RowReadPlan;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+import com.noorq.casser.support.CasserException;
+import com.noorq.casser.support.CasserMappingException;
+
+/**
+ * Maps rows into instances of a concrete class through its all-args constructor 
+ * or static factory method, without proxy or backing map.
+ * 
+ * The creator handle is combined with the plan readers once per target class, so
+ * boolean, int, long, float and double parameters are read from the row unboxed.
+ */
+
+public final class CreatorMapper<E> implements Function<Row, E> {
+
+	/**
+	 * Bindings of the target class by entity interface, kept with the target class so 
+	 * they do not pin user classes or class loaders
+	 */
+	
+	private static final ClassValue<ConcurrentMap<Class<?>, Binding>> bindings = new ClassValue<ConcurrentMap<Class<?>, Binding>>() {
+
+		@Override
+		protected ConcurrentMap<Class<?>, Binding> computeValue(Class<?> targetClass) {
+			return new ConcurrentHashMap<Class<?>, Binding>();
+		}
+		
+	};
+	
+	private static final MethodHandle GET_VALUE;
+	private static final MethodHandle GET_BOOLEAN;
+	private static final MethodHandle GET_INT;
+	private static final MethodHandle GET_LONG;
+	private static final MethodHandle GET_FLOAT;
+	private static final MethodHandle GET_DOUBLE;
+	
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			GET_VALUE = lookup.findVirtual(RowReadPlan.class, "getValue", MethodType.methodType(Object.class, Row.class, int.class));
+			GET_BOOLEAN = lookup.findVirtual(RowReadPlan.class, "getBoolean", MethodType.methodType(boolean.class, Row.class, int.class));
+			GET_INT = lookup.findVirtual(RowReadPlan.class, "getInt", MethodType.methodType(int.class, Row.class, int.class));
+			GET_LONG = lookup.findVirtual(RowReadPlan.class, "getLong", MethodType.methodType(long.class, Row.class, int.class));
+			GET_FLOAT = lookup.findVirtual(RowReadPlan.class, "getFloat", MethodType.methodType(float.class, Row.class, int.class));
+			GET_DOUBLE = lookup.findVirtual(RowReadPlan.class, "getDouble", MethodType.methodType(double.class, Row.class, int.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	private final Binding binding;
+	private final RowReadPlanner planner;
+	
+	public CreatorMapper(CasserEntity entity, Class<E> targetClass, SessionRepository repository) {
+		this.binding = getBinding(entity, targetClass);
+		this.planner = new RowReadPlanner(repository, binding.properties);
+	}
+	
+	public List<CasserProperty> getProperties() {
+		return binding.properties;
+	}
+	
+	/**
+	 * Properties read by the creator of the target class, without building the row planner
+	 */
+	
+	public static List<CasserProperty> getProperties(CasserEntity entity, Class<?> targetClass) {
+		return getBinding(entity, targetClass).properties;
+	}
+	
+	private static Binding getBinding(CasserEntity entity, Class<?> targetClass) {
+		
+		ConcurrentMap<Class<?>, Binding> targetBindings = bindings.get(targetClass);
+		
+		Binding binding = targetBindings.get(entity.getMappingInterface());
+		
+		if (binding == null) {
+			binding = new Binding(entity, targetClass);
+			Binding existing = targetBindings.putIfAbsent(entity.getMappingInterface(), binding);
+			if (existing != null) {
+				binding = existing;
+			}
+		}
+		
+		return binding;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public E apply(Row source) {
+		
+		RowReadPlan plan = planner.getPlan(source);
+		
+		try {
+			return (E) binding.reader.invokeExact(plan, source);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new CasserException(e);
+		}
+	}
+	
+	static final class Readers {
+		
+		private Readers() {
+		}
+		
+		/**
+		 * Handle of type (RowReadPlan, Row)Object that reads every creator parameter
+		 * through the plan at its position and calls the creator
+		 */
+		
+		static MethodHandle bind(MethodHandle creator) {
+			
+			MethodType type = creator.type();
+			int count = type.parameterCount();
+			
+			MethodHandle handle = creator;
+			
+			for (int i = 0; i != count; ++i) {
+				MethodHandle reader = MethodHandles.insertArguments(getReader(type.parameterType(i)), 2, i);
+				handle = MethodHandles.collectArguments(handle, i * 2, reader);
+			}
+			
+			int[] reorder = new int[count * 2];
+			for (int i = 0; i != reorder.length; ++i) {
+				reorder[i] = i & 1;
+			}
+			
+			return MethodHandles.permuteArguments(handle, 
+					MethodType.methodType(Object.class, RowReadPlan.class, Row.class), reorder);
+		}
+		
+		static MethodHandle getReader(Class<?> parameterType) {
+			
+			if (parameterType == boolean.class) {
+				return GET_BOOLEAN;
+			}
+			else if (parameterType == int.class) {
+				return GET_INT;
+			}
+			else if (parameterType == long.class) {
+				return GET_LONG;
+			}
+			else if (parameterType == float.class) {
+				return GET_FLOAT;
+			}
+			else if (parameterType == double.class) {
+				return GET_DOUBLE;
+			}
+			else if (parameterType.isPrimitive()) {
+				MethodHandle unbox = getUnbox(parameterType);
+				return MethodHandles.filterReturnValue(GET_VALUE, unbox);
+			}
+			
+			return GET_VALUE.asType(MethodType.methodType(parameterType, RowReadPlan.class, Row.class, int.class));
+		}
+		
+		static MethodHandle getUnbox(Class<?> primitiveType) {
+			try {
+				return MethodHandles.lookup().findStatic(GeneratedMapper.class, primitiveType.getName() + "Value", 
+						MethodType.methodType(primitiveType, Object.class));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				throw new CasserMappingException("unsupported primitive type " + primitiveType, e);
+			}
+		}
+		
+	}
+	
+	static final class Binding {
+		
+		final List<CasserProperty> properties;
+		final MethodHandle reader;
+		
+		Binding(CasserEntity entity, Class<?> targetClass) {
+			
+			Executable creator = findCreator(targetClass);
+			
+			Parameter[] params = creator.getParameters();
+			List<CasserProperty> properties = new ArrayList<CasserProperty>(params.length);
+			
+			for (int i = 0; i != params.length; ++i) {
+				
+				String propertyName = getPropertyName(params[i], creator);
+				CasserProperty prop = entity.getProperty(propertyName);
+				
+				if (prop == null) {
+					throw new CasserMappingException("property " + propertyName + " not found in " + entity.getMappingInterface() + " for " + creator);
+				}
+				
+				properties.add(prop);
+			}
+			
+			this.properties = Collections.unmodifiableList(properties);
+			
+			try {
+				
+				MethodHandle handle = creator instanceof Constructor ? 
+						MethodHandles.publicLookup().unreflectConstructor((Constructor<?>) creator) :
+						MethodHandles.publicLookup().unreflect((Method) creator);
+				
+				this.reader = Readers.bind(handle.asType(handle.type().changeReturnType(Object.class)));
+				
+			} catch (IllegalAccessException e) {
+				throw new CasserMappingException("creator is not accessible " + creator, e);
+			}
+		}
+		
+		static Executable findCreator(Class<?> targetClass) {
+			
+			if (targetClass.isInterface() || Modifier.isAbstract(targetClass.getModifiers())) {
+				throw new CasserMappingException("expected concrete class " + targetClass);
+			}
+			
+			Executable found = null;
+			
+			for (Constructor<?> constructor : targetClass.getConstructors()) {
+				if (constructor.isAnnotationPresent(Creator.class)) {
+					found = select(found, constructor, targetClass);
+				}
+			}
+			
+			for (Method method : targetClass.getMethods()) {
+				if (method.isAnnotationPresent(Creator.class)) {
+					
+					if (!Modifier.isStatic(method.getModifiers()) || !targetClass.isAssignableFrom(method.getReturnType())) {
+						throw new CasserMappingException("@Creator method must be static and return " + targetClass + " " + method);
+					}
+					
+					found = select(found, method, targetClass);
+				}
+			}
+			
+			if (found != null) {
+				return found;
+			}
+			
+			Constructor<?>[] constructors = targetClass.getConstructors();
+			
+			if (constructors.length != 1) {
+				throw new CasserMappingException("expected single public constructor or @Creator annotation in " + targetClass);
+			}
+			
+			return constructors[0];
+		}
+		
+		static Executable select(Executable found, Executable candidate, Class<?> targetClass) {
+			
+			if (found != null) {
+				throw new CasserMappingException("multiple @Creator annotations in " + targetClass);
+			}
+			
+			return candidate;
+		}
+		
+		static String getPropertyName(Parameter param, Executable creator) {
+			
+			Param annotation = param.getAnnotation(Param.class);
+			
+			if (annotation != null) {
+				return annotation.value();
+			}
+			
+			if (param.isNamePresent()) {
+				return param.getName();
+			}
+			
+			throw new CasserMappingException("parameter names are not available, use @Param annotation or compile with -parameters " + creator);
+		}
+		
+	}
+	
+}
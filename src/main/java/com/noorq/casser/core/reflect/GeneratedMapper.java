@@ -0,0 +1,124 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.reflect;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.noorq.casser.mapping.value.PrimitiveValueSource;
+import com.noorq.casser.support.CasserException;
+
+/**
+ * Base class for the mapper classes produced by GeneratedMapperInstantiator.
+ * 
+ * Generated subclasses copy every getter value out of the source map into
+ * a final field once, in the constructor, and return it directly afterwards.
+ * 
+ * Primitive getters read sources that implement PrimitiveValueSource without boxing.
+ */
+
+public abstract class GeneratedMapper implements MapExportable {
+
+	private final Class<?> iface;
+	private final Map<String, Object> src;
+	
+	protected GeneratedMapper(Class<?> iface, Map<String, Object> src) {
+		this.iface = iface;
+		this.src = src;
+	}
+	
+	@Override
+	public Map<String, Object> toMap() {
+		return Collections.unmodifiableMap(src);
+	}
+
+	@Override
+	public String toString() {
+		return iface.getSimpleName() + ": " + src.toString();
+	}
+	
+	protected static CasserException invalidGetter(String method) {
+		return new CasserException("invalid getter method " + method);
+	}
+	
+	protected static boolean booleanValue(Object value) {
+		return value != null ? ((Boolean) value).booleanValue() : false;
+	}
+
+	protected static byte byteValue(Object value) {
+		return value != null ? ((Byte) value).byteValue() : 0;
+	}
+
+	protected static char charValue(Object value) {
+		return value != null ? ((Character) value).charValue() : 0;
+	}
+
+	protected static short shortValue(Object value) {
+		return value != null ? ((Short) value).shortValue() : 0;
+	}
+
+	protected static int intValue(Object value) {
+		return value != null ? ((Integer) value).intValue() : 0;
+	}
+
+	protected static long longValue(Object value) {
+		return value != null ? ((Long) value).longValue() : 0L;
+	}
+
+	protected static float floatValue(Object value) {
+		return value != null ? ((Float) value).floatValue() : 0.0f;
+	}
+
+	protected static double doubleValue(Object value) {
+		return value != null ? ((Double) value).doubleValue() : 0.0;
+	}
+	
+	protected static boolean booleanValue(Map<String, Object> src, String name) {
+		if (src instanceof PrimitiveValueSource) {
+			return ((PrimitiveValueSource) src).getBoolean(name);
+		}
+		return booleanValue(src.get(name));
+	}
+
+	protected static int intValue(Map<String, Object> src, String name) {
+		if (src instanceof PrimitiveValueSource) {
+			return ((PrimitiveValueSource) src).getInt(name);
+		}
+		return intValue(src.get(name));
+	}
+
+	protected static long longValue(Map<String, Object> src, String name) {
+		if (src instanceof PrimitiveValueSource) {
+			return ((PrimitiveValueSource) src).getLong(name);
+		}
+		return longValue(src.get(name));
+	}
+
+	protected static float floatValue(Map<String, Object> src, String name) {
+		if (src instanceof PrimitiveValueSource) {
+			return ((PrimitiveValueSource) src).getFloat(name);
+		}
+		return floatValue(src.get(name));
+	}
+
+	protected static double doubleValue(Map<String, Object> src, String name) {
+		if (src instanceof PrimitiveValueSource) {
+			return ((PrimitiveValueSource) src).getDouble(name);
+		}
+		return doubleValue(src.get(name));
+	}
+	
+}
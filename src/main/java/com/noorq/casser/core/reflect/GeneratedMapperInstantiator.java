@@ -0,0 +1,236 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.core.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import com.noorq.casser.core.MapperInstantiator;
+import com.noorq.casser.support.CasserException;
+
+/**
+ * MapperInstantiator that generates a concrete class per mapping interface
+ * instead of going through java.lang.reflect.Proxy. 
+ * 
+ * Select it by returning GeneratedMapperInstantiator.INSTANCE from 
+ * CasserSettings.getMapperInstantiator(). Non public interfaces can not be 
+ * implemented from a separate class loader and fall back to the proxy mappers.
+ */
+
+public enum GeneratedMapperInstantiator implements MapperInstantiator {
+
+	INSTANCE;
+
+	private static final String CLASS_SUFFIX = "$$CasserMapper";
+	
+	private static final String BASE_CLASS = Type.getInternalName(GeneratedMapper.class);
+	
+	private static final String MAP_CLASS = Type.getInternalName(Map.class);
+	
+	private final ConcurrentMap<Class<?>, Constructor<?>> constructorCache = new ConcurrentHashMap<Class<?>, Constructor<?>>();
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E> E instantiate(Class<E> iface, Map<String, Object> src,
+			ClassLoader classLoader) {
+
+		if (!Modifier.isPublic(iface.getModifiers())) {
+			return ReflectionMapperInstantiator.INSTANCE.instantiate(iface, src, classLoader);
+		}
+		
+		Constructor<?> constructor = constructorCache.computeIfAbsent(iface, i -> generate(i));
+		
+		try {
+			return (E) constructor.newInstance(src);
+		} catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new CasserException(cause);
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new CasserException("unable to instantiate mapper for " + iface, e);
+		}
+		
+	}
+	
+	private static Constructor<?> generate(Class<?> iface) {
+		
+		String className = iface.getName() + CLASS_SUFFIX;
+		
+		byte[] bytecode = generateBytecode(iface, className.replace('.', '/'));
+		
+		MapperClassLoader classLoader = new MapperClassLoader(iface.getClassLoader());
+		
+		try {
+			return classLoader.define(className, bytecode).getConstructor(Map.class);
+		} catch (NoSuchMethodException e) {
+			throw new CasserException("generated mapper has no constructor " + className, e);
+		}
+	}
+	
+	private static byte[] generateBytecode(Class<?> iface, String internalName) {
+		
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		
+		cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, 
+				internalName, null, BASE_CLASS, new String[] { Type.getInternalName(iface) });
+		
+		MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", 
+				"(L" + MAP_CLASS + ";)V", null, null);
+		init.visitCode();
+		init.visitVarInsn(Opcodes.ALOAD, 0);
+		init.visitLdcInsn(Type.getType(iface));
+		init.visitVarInsn(Opcodes.ALOAD, 1);
+		init.visitMethodInsn(Opcodes.INVOKESPECIAL, BASE_CLASS, "<init>", 
+				"(Ljava/lang/Class;L" + MAP_CLASS + ";)V", false);
+		
+		Set<String> visited = new HashSet<String>();
+		int fieldIndex = 0;
+		
+		for (Method method : iface.getMethods()) {
+			
+			if (Modifier.isStatic(method.getModifiers()) || isObjectOrExportMethod(method)) {
+				continue;
+			}
+			
+			String descriptor = Type.getMethodDescriptor(method);
+			
+			if (!visited.add(method.getName() + descriptor)) {
+				continue;
+			}
+			
+			MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, method.getName(), descriptor, null, null);
+			mv.visitCode();
+			
+			if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+				
+				mv.visitLdcInsn(method.toString());
+				mv.visitMethodInsn(Opcodes.INVOKESTATIC, BASE_CLASS, "invalidGetter", 
+						"(Ljava/lang/String;)Lcom/noorq/casser/support/CasserException;", false);
+				mv.visitInsn(Opcodes.ATHROW);
+				
+			}
+			else {
+				
+				Type returnType = Type.getReturnType(method);
+				String fieldName = "f" + fieldIndex++;
+				
+				cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, fieldName, 
+						returnType.getDescriptor(), null, null).visitEnd();
+				
+				init.visitVarInsn(Opcodes.ALOAD, 0);
+				init.visitVarInsn(Opcodes.ALOAD, 1);
+				init.visitLdcInsn(method.getName());
+				
+				if (isUnboxedPrimitive(method.getReturnType())) {
+					String unbox = method.getReturnType().getName() + "Value";
+					init.visitMethodInsn(Opcodes.INVOKESTATIC, BASE_CLASS, unbox, 
+							"(L" + MAP_CLASS + ";Ljava/lang/String;)" + returnType.getDescriptor(), false);
+				}
+				else {
+					generateBoxedRead(init, method, returnType);
+				}
+				
+				init.visitFieldInsn(Opcodes.PUTFIELD, internalName, fieldName, returnType.getDescriptor());
+				
+				mv.visitVarInsn(Opcodes.ALOAD, 0);
+				mv.visitFieldInsn(Opcodes.GETFIELD, internalName, fieldName, returnType.getDescriptor());
+				mv.visitInsn(returnType.getOpcode(Opcodes.IRETURN));
+				
+			}
+			
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+		
+		init.visitInsn(Opcodes.RETURN);
+		init.visitMaxs(0, 0);
+		init.visitEnd();
+		
+		cw.visitEnd();
+		
+		return cw.toByteArray();
+	}
+	
+	private static boolean isUnboxedPrimitive(Class<?> type) {
+		return type == boolean.class || type == int.class || type == long.class 
+				|| type == float.class || type == double.class;
+	}
+	
+	private static void generateBoxedRead(MethodVisitor init, Method method, Type returnType) {
+		
+		init.visitMethodInsn(Opcodes.INVOKEINTERFACE, MAP_CLASS, "get", 
+				"(Ljava/lang/Object;)Ljava/lang/Object;", true);
+		
+		if (method.getReturnType().isPrimitive()) {
+			String unbox = method.getReturnType().getName() + "Value";
+			init.visitMethodInsn(Opcodes.INVOKESTATIC, BASE_CLASS, unbox, 
+					"(Ljava/lang/Object;)" + returnType.getDescriptor(), false);
+		}
+		else if (method.getReturnType() != Object.class) {
+			init.visitTypeInsn(Opcodes.CHECKCAST, returnType.getInternalName());
+		}
+	}
+	
+	private static boolean isObjectOrExportMethod(Method method) {
+		
+		switch(method.getName()) {
+		
+		case "equals":
+			return method.getParameterCount() == 1 && method.getParameterTypes()[0] == Object.class;
+			
+		case "hashCode":
+		case "toString":
+		case MapExportable.TO_MAP_METHOD:
+			return method.getParameterCount() == 0;
+			
+		default:
+			return false;
+		}
+		
+	}
+	
+	private static final class MapperClassLoader extends ClassLoader {
+		
+		MapperClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+		
+		Class<?> define(String className, byte[] bytecode) {
+			return defineClass(className, bytecode, 0, bytecode.length);
+		}
+		
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			return Class.forName(name, false, GeneratedMapper.class.getClassLoader());
+		}
+		
+	}
+	
+}
@@ -29,4 +29,6 @@ public interface CasserEntity {
 	
 	CasserProperty getProperty(String name);
 	
+	int getOrderedIndex(String name);
+	
 }
@@ -40,6 +40,7 @@ public final class CasserMappingEntity implements CasserEntity {
 	private final IdentityName name;
 	private final ImmutableMap<String, CasserProperty> props;
 	private final ImmutableList<CasserProperty> orderedProps;
+	private final ImmutableMap<String, Integer> orderedIndexes;
 	
 	public CasserMappingEntity(Class<?> iface) {
 		this(iface, autoDetectType(iface));
@@ -79,6 +80,12 @@ public final class CasserMappingEntity implements CasserEntity {
 		
 		Collections.sort(propsLocal, TypeAndOrdinalColumnComparator.INSTANCE);
 		this.orderedProps = ImmutableList.copyOf(propsLocal);
+		
+		ImmutableMap.Builder<String, Integer> indexesBuilder = ImmutableMap.builder();
+		for (int i = 0; i != propsLocal.size(); ++i) {
+			indexesBuilder.put(propsLocal.get(i).getPropertyName(), i);
+		}
+		this.orderedIndexes = indexesBuilder.build();
 
 		validateOrdinals();
 	}
@@ -103,6 +110,12 @@ public final class CasserMappingEntity implements CasserEntity {
 		return props.get(name);
 	}
 
+	@Override
+	public int getOrderedIndex(String name) {
+		Integer index = orderedIndexes.get(name);
+		return index != null ? index.intValue() : -1;
+	}
+
 	@Override
 	public IdentityName getName() {
 		return name;
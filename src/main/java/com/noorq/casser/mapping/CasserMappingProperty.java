@@ -27,6 +27,7 @@ import com.noorq.casser.core.SessionRepository;
 import com.noorq.casser.mapping.javatype.AbstractJavaType;
 import com.noorq.casser.mapping.javatype.MappingJavaTypes;
 import com.noorq.casser.mapping.type.AbstractDataType;
+import com.noorq.casser.support.StringDictionary;
 
 public final class CasserMappingProperty implements CasserProperty {
 
@@ -42,9 +43,10 @@ public final class CasserMappingProperty implements CasserProperty {
 	private final Class<?> javaType;
 	private final AbstractJavaType abstractJavaType;
 	private final AbstractDataType dataType;
+	private final boolean lazyCollection;
+	private final Optional<StringDictionary> stringDictionary;
 		
-	private volatile Optional<Function<Object, Object>> readConverter = null;
-	private volatile Optional<Function<Object, Object>> writeConverter = null;
+	private volatile PropertyCodec detachedCodec = null;
 	
 	private final ConstraintValidator<? extends Annotation, ?>[] validators;
 	
@@ -63,6 +65,9 @@ public final class CasserMappingProperty implements CasserProperty {
 
 		this.dataType = abstractJavaType.resolveDataType(this.getter, this.genericJavaType, this.columnInfo.getColumnType());
 		
+		this.lazyCollection = MappingUtil.isLazyCollection(getter);
+		this.stringDictionary = MappingUtil.getStringDictionary(getter);
+		
 		this.validators = MappingUtil.getValidators(getter);
 	}
 	
@@ -96,6 +101,16 @@ public final class CasserMappingProperty implements CasserProperty {
 		return columnInfo.getOrdering();
 	}
 
+	@Override
+	public boolean isLazyCollection() {
+		return lazyCollection;
+	}
+
+	@Override
+	public Optional<StringDictionary> getStringDictionary() {
+		return stringDictionary;
+	}
+
 	@Override
 	public IdentityName getColumnName() {
 		return columnInfo.getColumnName();
@@ -118,22 +133,40 @@ public final class CasserMappingProperty implements CasserProperty {
 	
 	@Override
 	public Optional<Function<Object, Object>> getReadConverter(SessionRepository repository) {
-
-		if (readConverter == null) {
-			readConverter = abstractJavaType.resolveReadConverter(this.dataType, repository);
-		}
-		
-		return readConverter;
+		return getCodec(repository).getReadConverter();
 	}
 	
 	@Override
 	public Optional<Function<Object, Object>> getWriteConverter(SessionRepository repository) {
+		return getCodec(repository).getWriteConverter();
+	}
+
+	/**
+	 * Codec compiled by the repository, converters depend on the user types of the session
+	 */
+	
+	@Override
+	public PropertyCodec getCodec(SessionRepository repository) {
 		
-		if (writeConverter == null) {
-			writeConverter = abstractJavaType.resolveWriteConverter(this.dataType, repository);
+		if (repository != null) {
+			return repository.getCodec(this);
 		}
 		
-		return writeConverter;
+		PropertyCodec current = detachedCodec;
+		
+		if (current == null) {
+			current = resolveCodec(null);
+			detachedCodec = current;
+		}
+		
+		return current;
+	}
+	
+	public PropertyCodec resolveCodec(SessionRepository repository) {
+		return new PropertyCodec(
+				abstractJavaType.resolveReadConverter(this.getter, this.dataType, repository),
+				abstractJavaType.resolveWriteConverter(this.dataType, repository),
+				abstractJavaType.resolveElementWriteConverter(this.dataType, repository));
 	}
 
 	@Override
@@ -24,6 +24,7 @@ import javax.validation.ConstraintValidator;
 
 import com.noorq.casser.core.SessionRepository;
 import com.noorq.casser.mapping.type.AbstractDataType;
+import com.noorq.casser.support.StringDictionary;
 
 public interface CasserProperty {
 
@@ -47,9 +48,15 @@ public interface CasserProperty {
 	
 	OrderingDirection getOrdering();
 	
+	boolean isLazyCollection();
+	
+	Optional<StringDictionary> getStringDictionary();
+	
 	Optional<Function<Object, Object>> getReadConverter(SessionRepository repository);
 	
 	Optional<Function<Object, Object>> getWriteConverter(SessionRepository repository);
+	
+	PropertyCodec getCodec(SessionRepository repository);
 
 	ConstraintValidator<? extends Annotation, ?>[] getValidators();
 	
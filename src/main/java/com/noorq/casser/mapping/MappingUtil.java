@@ -19,7 +19,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.validation.Constraint;
 import javax.validation.ConstraintValidator;
@@ -34,11 +36,14 @@ import com.noorq.casser.core.reflect.MapExportable;
 import com.noorq.casser.core.reflect.ReflectionInstantiator;
 import com.noorq.casser.core.reflect.SetDsl;
 import com.noorq.casser.mapping.annotation.Index;
+import com.noorq.casser.mapping.annotation.Interned;
+import com.noorq.casser.mapping.annotation.LazyCollection;
 import com.noorq.casser.mapping.annotation.Table;
 import com.noorq.casser.mapping.annotation.Tuple;
 import com.noorq.casser.mapping.annotation.UDT;
 import com.noorq.casser.support.CasserMappingException;
 import com.noorq.casser.support.DslPropertyException;
+import com.noorq.casser.support.StringDictionary;
 
 
 public final class MappingUtil {
@@ -127,6 +132,40 @@ public final class MappingUtil {
 		return indexName != null ? Optional.of(new IdentityName(indexName, forceQuote)) : Optional.empty();
 	}
 
+	public static boolean isLazyCollection(Method getterMethod) {
+		
+		LazyCollection lazy = getterMethod.getDeclaredAnnotation(LazyCollection.class);
+		
+		if (lazy == null) {
+			return false;
+		}
+		
+		Class<?> javaType = getterMethod.getReturnType();
+		
+		if (!List.class.equals(javaType) && !Set.class.equals(javaType) && !Map.class.equals(javaType)) {
+			throw new CasserMappingException("@LazyCollection is applicable only to List, Set or Map properties " + getterMethod);
+		}
+		
+		return true;
+	}
+
+	public static Optional<StringDictionary> getStringDictionary(Method getterMethod) {
+		
+		Interned interned = getterMethod.getDeclaredAnnotation(Interned.class);
+		
+		if (interned == null) {
+			return Optional.empty();
+		}
+		
+		Class<?> javaType = getterMethod.getReturnType();
+		
+		if (!String.class.equals(javaType) && !javaType.isEnum()) {
+			throw new CasserMappingException("@Interned is applicable only to String or Enum properties " + getterMethod);
+		}
+		
+		return Optional.of(new StringDictionary(interned.capacity()));
+	}
+
 	public static String getPropertyName(Method getter) {
 		return getter.getName();
 	}
@@ -0,0 +1,74 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read, write and collection element converters of a property, resolved 
+ * once. Absent converters are replaced by the identity, so callers never 
+ * branch on Optional per value.
+ */
+
+public final class PropertyCodec {
+
+	public static final PropertyCodec IDENTITY = new PropertyCodec(Optional.empty(), Optional.empty(), Optional.empty());
+	
+	private final Optional<Function<Object, Object>> readConverter;
+	private final Optional<Function<Object, Object>> writeConverter;
+	
+	private final Function<Object, Object> reader;
+	private final Function<Object, Object> writer;
+	private final Function<Object, Object> elementWriter;
+	
+	public PropertyCodec(Optional<Function<Object, Object>> readConverter,
+			Optional<Function<Object, Object>> writeConverter,
+			Optional<Function<Object, Object>> elementWriteConverter) {
+		
+		this.readConverter = readConverter;
+		this.writeConverter = writeConverter;
+		
+		this.reader = readConverter.orElse(Function.identity());
+		this.writer = writeConverter.orElse(Function.identity());
+		this.elementWriter = elementWriteConverter.orElse(Function.identity());
+	}
+	
+	public Optional<Function<Object, Object>> getReadConverter() {
+		return readConverter;
+	}
+
+	public Optional<Function<Object, Object>> getWriteConverter() {
+		return writeConverter;
+	}
+
+	public Object read(Object value) {
+		return value != null ? reader.apply(value) : null;
+	}
+	
+	public Object write(Object value) {
+		return value != null ? writer.apply(value) : null;
+	}
+
+	/**
+	 * Converts a single element of a list or set property  
+	 */
+	
+	public Object writeElement(Object value) {
+		return value != null ? elementWriter.apply(value) : null;
+	}
+	
+}
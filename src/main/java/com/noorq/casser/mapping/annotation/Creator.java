@@ -0,0 +1,40 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Creator annotation marks the constructor or the static factory method of the class
+ * that rows are mapped into with session.selectAll(entityClass, targetClass).
+ * 
+ * Every parameter is bound to the entity property with the same name, or with the name
+ * given by @Param annotation. 
+ * 
+ * The annotation is optional for the classes with a single public constructor.
+ * 
+ */
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.CONSTRUCTOR, ElementType.METHOD })
+public @interface Creator {
+
+}
@@ -0,0 +1,49 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Interned annotation is using under the String or Enum property with @Types.Text, @Types.Varchar 
+ * or @Types.Ascii column in entity interface.
+ * 
+ * Values of the column are canonicalized through a bounded dictionary of the property, the serialized 
+ * bytes are compared with the known values before a new String is created.
+ * 
+ * Useful for low cardinality columns: country, status, enum names and etc.
+ * 
+ */
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface Interned {
+
+	/**
+	 * Number of slots in the dictionary, rounded up to the power of two. 
+	 * When two values share a slot the last one read is kept.
+	 * 
+	 * @return capacity of the dictionary
+	 */
+	
+	int capacity() default 1024;
+	
+}
@@ -0,0 +1,44 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Param annotation binds the parameter of the @Creator constructor or factory method to the entity property.
+ * 
+ * Not needed for the classes compiled with -parameters if the parameter names are the same as property names.
+ * 
+ */
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.PARAMETER })
+public @interface Param {
+
+	/**
+	 * Name of the property in the entity interface, that is the name of the getter method.
+	 * 
+	 * @return name of the property
+	 */
+	
+	String value();
+	
+}
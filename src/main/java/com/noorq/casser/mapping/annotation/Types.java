@@ -83,6 +83,17 @@ public final class Types {
 	@Target(value = { ElementType.METHOD, ElementType.ANNOTATION_TYPE })
 	public @interface Blob {
 
+		/**
+		 * Returns @ByteBuffer values as read-only slices of the row buffer, without copying. 
+		 * The slice keeps the whole response frame reachable while it is referenced.
+		 * 
+		 * Default value is false, has no effect for @byte[]
+		 * 
+		 * @return true if values have to be read-only views
+		 */
+		
+		boolean readOnly() default false;
+		
 	}
 	
 	/**
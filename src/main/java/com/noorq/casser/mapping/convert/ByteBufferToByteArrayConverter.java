@@ -29,7 +29,14 @@ public enum ByteBufferToByteArrayConverter implements Function<ByteBuffer, byte[
 			return null;
 		}
 		
-		return t.array();
+		if (t.hasArray() && t.arrayOffset() == 0 && t.position() == 0 
+				&& t.remaining() == t.array().length) {
+			return t.array();
+		}
+		
+		byte[] bytes = new byte[t.remaining()];
+		t.duplicate().get(bytes);
+		return bytes;
 	}
 
 }
@@ -0,0 +1,164 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.convert;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.noorq.casser.mapping.value.SerializedCollections;
+import com.noorq.casser.support.CasserMappingException;
+import com.noorq.casser.support.IntList;
+import com.noorq.casser.support.IntSet;
+import com.noorq.casser.support.LongList;
+import com.noorq.casser.support.LongSet;
+
+/**
+ * Reads primitive collections from the serialized column value, or from 
+ * the collection decoded by the driver for UDT and tuple fields.
+ */
+
+public enum PrimitiveCollectionConverter {
+
+	LONG_SET {
+		
+		@Override
+		Object fromBytes(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+			long[] values = SerializedCollections.readLongs(bytes, protocolVersion);
+			return isSorted(values) ? LongSet.wrap(values) : LongSet.of(values);
+		}
+
+		@Override
+		Object fromCollection(Collection<?> collection) {
+			return LongSet.of(toLongs(collection));
+		}
+		
+	},
+	
+	INT_SET {
+		
+		@Override
+		Object fromBytes(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+			int[] values = SerializedCollections.readInts(bytes, protocolVersion);
+			return isSorted(values) ? IntSet.wrap(values) : IntSet.of(values);
+		}
+
+		@Override
+		Object fromCollection(Collection<?> collection) {
+			return IntSet.of(toInts(collection));
+		}
+		
+	},
+	
+	LONG_LIST {
+		
+		@Override
+		Object fromBytes(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+			return LongList.wrap(SerializedCollections.readLongs(bytes, protocolVersion));
+		}
+
+		@Override
+		Object fromCollection(Collection<?> collection) {
+			return LongList.wrap(toLongs(collection));
+		}
+		
+	},
+	
+	INT_LIST {
+		
+		@Override
+		Object fromBytes(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+			return IntList.wrap(SerializedCollections.readInts(bytes, protocolVersion));
+		}
+
+		@Override
+		Object fromCollection(Collection<?> collection) {
+			return IntList.wrap(toInts(collection));
+		}
+		
+	};
+
+	abstract Object fromBytes(ByteBuffer bytes, ProtocolVersion protocolVersion);
+	
+	abstract Object fromCollection(Collection<?> collection);
+	
+	/**
+	 * Serialized values are decoded with the protocol version negotiated by the session
+	 */
+	
+	public Function<Object, Object> forProtocol(ProtocolVersion protocolVersion) {
+		return t -> convert(t, protocolVersion);
+	}
+	
+	public Object convert(Object t, ProtocolVersion protocolVersion) {
+		
+		if (t == null) {
+			return null;
+		}
+		
+		if (t instanceof ByteBuffer) {
+			return fromBytes((ByteBuffer) t, protocolVersion);
+		}
+		
+		if (t instanceof Collection) {
+			return fromCollection((Collection<?>) t);
+		}
+		
+		throw new CasserMappingException("expected serialized collection or collection " + t.getClass());
+	}
+	
+	/**
+	 * Cassandra returns set elements in comparator order, copy and sort only if not
+	 */
+	
+	static boolean isSorted(long[] values) {
+		for (int i = 1; i < values.length; ++i) {
+			if (values[i - 1] >= values[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean isSorted(int[] values) {
+		for (int i = 1; i < values.length; ++i) {
+			if (values[i - 1] >= values[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	static long[] toLongs(Collection<?> collection) {
+		long[] values = new long[collection.size()];
+		int i = 0;
+		for (Object value : collection) {
+			values[i++] = ((Number) value).longValue();
+		}
+		return values;
+	}
+
+	static int[] toInts(Collection<?> collection) {
+		int[] values = new int[collection.size()];
+		int i = 0;
+		for (Object value : collection) {
+			values[i++] = ((Number) value).intValue();
+		}
+		return values;
+	}
+	
+}
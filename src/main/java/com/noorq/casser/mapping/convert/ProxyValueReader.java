@@ -22,25 +22,32 @@ import com.noorq.casser.core.Casser;
 import com.noorq.casser.mapping.CasserEntity;
 import com.noorq.casser.mapping.value.ColumnValueProvider;
 import com.noorq.casser.mapping.value.ValueProviderMap;
+import com.noorq.casser.mapping.value.ValueSnapshotMap;
 
 public class ProxyValueReader<T> implements Function<T, Object> {
 
 	private final Class<?> iface;
 	private final CasserEntity entity;
 	private final ColumnValueProvider valueProvider;
+	private final boolean eager;
 	
 	public ProxyValueReader(Class<?> iface, ColumnValueProvider valueProvider) {
+		this(iface, valueProvider, false);
+	}
+	
+	public ProxyValueReader(Class<?> iface, ColumnValueProvider valueProvider, boolean eager) {
 		this.iface = iface;
 		this.entity = Casser.entity(iface);
 		this.valueProvider = valueProvider;
+		this.eager = eager;
 	}
 	
 	@Override
 	public Object apply(T source) {
 		if (source != null) {
-			Map<String, Object> map = new ValueProviderMap(source, 
-					valueProvider,
-					entity);
+			Map<String, Object> map = eager ? 
+					new ValueSnapshotMap(source, valueProvider, entity) :
+					new ValueProviderMap(source, valueProvider, entity);
 			
 			return Casser.map(iface, map);
 		}
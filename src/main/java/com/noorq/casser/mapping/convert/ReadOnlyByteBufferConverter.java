@@ -0,0 +1,35 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.convert;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+public enum ReadOnlyByteBufferConverter implements Function<ByteBuffer, ByteBuffer> {
+
+	INSTANCE;
+
+	@Override
+	public ByteBuffer apply(ByteBuffer t) {
+		
+		if (t == null) {
+			return null;
+		}
+		
+		return t.isReadOnly() ? t : t.asReadOnlyBuffer();
+	}
+	
+}
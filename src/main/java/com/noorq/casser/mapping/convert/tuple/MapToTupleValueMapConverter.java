@@ -33,7 +33,7 @@ public final class MapToTupleValueMapConverter implements Function<Object, Objec
 	
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformMapValue((Map<Object, Object>) t, writer);
+		return Transformers.copyMapValue((Map<Object, Object>) t, writer);
 	}
 
 
@@ -33,7 +33,7 @@ public final class MapToUDTKeyMapConverter implements Function<Object, Object> {
 	
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformMapKey((Map<Object, Object>) t, writer);
+		return Transformers.copyMapKey((Map<Object, Object>) t, writer);
 	}
 
 
@@ -35,7 +35,7 @@ public final class MapToUDTMapConverter implements Function<Object, Object> {
 	
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformMap((Map<Object, Object>) t, keyWriter, valueWriter);
+		return Transformers.copyMap((Map<Object, Object>) t, keyWriter, valueWriter);
 	}
 
 }
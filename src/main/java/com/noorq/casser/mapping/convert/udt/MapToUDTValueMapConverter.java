@@ -33,7 +33,7 @@ public final class MapToUDTValueMapConverter implements Function<Object, Object>
 	
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformMapValue((Map<Object, Object>) t, writer);
+		return Transformers.copyMapValue((Map<Object, Object>) t, writer);
 	}
 
 
@@ -33,7 +33,7 @@ public final class SetToUDTSetConverter implements Function<Object, Object> {
 	
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformSet((Set<Object>) t, writer);
+		return Transformers.copySet((Set<Object>) t, writer);
 	}
 
 
@@ -15,6 +15,7 @@
  */
 package com.noorq.casser.mapping.convert.udt;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -27,14 +28,17 @@ import com.noorq.casser.support.Transformers;
 public final class UDTListToListConverter implements Function<Object, Object> {
 
 	final ProxyValueReader<UDTValue> reader;
+	final boolean eager;
 	
 	public UDTListToListConverter(Class<?> iface, SessionRepository repository) {
-		this.reader = new ProxyValueReader<UDTValue>(iface, new UDTColumnValueProvider(repository));
+		this.eager = repository.isEagerUdtMapping();
+		this.reader = new ProxyValueReader<UDTValue>(iface, new UDTColumnValueProvider(repository), eager);
 	}
 
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformList((List<UDTValue>) t, reader);
+		List<Object> list = Transformers.transformList((List<UDTValue>) t, reader);
+		return eager ? new ArrayList<Object>(list) : list;
 	}
 
 }
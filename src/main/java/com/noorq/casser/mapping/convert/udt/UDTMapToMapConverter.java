@@ -30,8 +30,8 @@ public final class UDTMapToMapConverter implements Function<Object, Object> {
 	final ProxyValueReader<UDTValue> valueReader;
 	
 	public UDTMapToMapConverter(Class<?> keyClass, Class<?> valueClass, SessionRepository repository) {
-		this.keyReader = new ProxyValueReader<UDTValue>(keyClass, new UDTColumnValueProvider(repository));
-		this.valueReader = new ProxyValueReader<UDTValue>(valueClass, new UDTColumnValueProvider(repository));
+		this.keyReader = new ProxyValueReader<UDTValue>(keyClass, new UDTColumnValueProvider(repository), repository.isEagerUdtMapping());
+		this.valueReader = new ProxyValueReader<UDTValue>(valueClass, new UDTColumnValueProvider(repository), repository.isEagerUdtMapping());
 	}
 
 	@Override
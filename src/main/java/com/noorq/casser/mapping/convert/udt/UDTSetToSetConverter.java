@@ -29,7 +29,7 @@ public final class UDTSetToSetConverter implements Function<Object, Object> {
 	final ProxyValueReader<UDTValue> reader;
 	
 	public UDTSetToSetConverter(Class<?> iface, SessionRepository repository) {
-		this.reader = new ProxyValueReader<UDTValue>(iface, new UDTColumnValueProvider(repository));
+		this.reader = new ProxyValueReader<UDTValue>(iface, new UDTColumnValueProvider(repository), repository.isEagerUdtMapping());
 	}
 
 	@Override
@@ -15,6 +15,7 @@
  */
 package com.noorq.casser.mapping.convert.udt;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -27,14 +28,17 @@ import com.noorq.casser.support.Transformers;
 public final class UDTValueMapToMapConverter implements Function<Object, Object> {
 
 	final ProxyValueReader<UDTValue> reader;
+	final boolean eager;
 	
 	public UDTValueMapToMapConverter(Class<?> iface, SessionRepository repository) {
-		this.reader = new ProxyValueReader<UDTValue>(iface, new UDTColumnValueProvider(repository));
+		this.eager = repository.isEagerUdtMapping();
+		this.reader = new ProxyValueReader<UDTValue>(iface, new UDTColumnValueProvider(repository), eager);
 	}
 
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformMapValue((Map<Object, UDTValue>) t, reader);
+		Map<Object, Object> map = Transformers.transformMapValue((Map<Object, UDTValue>) t, reader);
+		return eager ? new HashMap<Object, Object>(map) : map;
 	}
 
 }
@@ -25,7 +25,7 @@ import com.noorq.casser.mapping.value.UDTColumnValueProvider;
 public final class UDTValueToEntityConverter extends ProxyValueReader<UDTValue> implements Function<UDTValue, Object> {
 
 	public UDTValueToEntityConverter(Class<?> iface, SessionRepository repository) {
-		super(iface, new UDTColumnValueProvider(repository));
+		super(iface, new UDTColumnValueProvider(repository), repository.isEagerUdtMapping());
 	}
 
 }
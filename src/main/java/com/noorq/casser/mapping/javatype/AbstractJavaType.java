@@ -22,12 +22,19 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.TupleType;
+import com.datastax.driver.core.TupleValue;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
 import com.noorq.casser.core.SessionRepository;
 import com.noorq.casser.mapping.ColumnType;
 import com.noorq.casser.mapping.IdentityName;
 import com.noorq.casser.mapping.MappingUtil;
 import com.noorq.casser.mapping.annotation.Types;
+import com.noorq.casser.mapping.convert.TupleValueWriter;
+import com.noorq.casser.mapping.convert.UDTValueWriter;
 import com.noorq.casser.mapping.type.AbstractDataType;
+import com.noorq.casser.mapping.type.DTDataType;
 import com.noorq.casser.support.CasserMappingException;
 import com.noorq.casser.support.Either;
 
@@ -50,10 +57,68 @@ public abstract class AbstractJavaType {
 		return Optional.empty();
 	}
 
+	/**
+	 * Read converter for the specific property, by default the same for all properties of the type 
+	 */
+	
+	public Optional<Function<Object, Object>> resolveReadConverter(Method getter, AbstractDataType dataType,
+			SessionRepository repository) {
+		return resolveReadConverter(dataType, repository);
+	}
+
 	public Optional<Function<Object, Object>> resolveWriteConverter(AbstractDataType dataType,
 			SessionRepository repository) {
 		return Optional.empty();
 	}
+
+	public Optional<Function<Object, Object>> resolveElementWriteConverter(AbstractDataType dataType,
+			SessionRepository repository) {
+		return Optional.empty();
+	}
+	
+	/**
+	 * Element writer of a list or set of tuples, empty for other element types
+	 */
+	
+	static Optional<Function<Object, Object>> resolveTupleElementWriteConverter(DTDataType dt, 
+			SessionRepository repository) {
+		
+		DataType elementType = dt.getDataType().getTypeArguments().get(0);
+		
+		if (elementType instanceof TupleType) {
+			
+			Class<?> tupleClass = dt.getTypeArguments()[0];
+			
+			if (TupleValue.class.isAssignableFrom(tupleClass)) {
+				return Optional.empty();
+			}
+			
+			TupleValueWriter writer = new TupleValueWriter(tupleClass, (TupleType) elementType, repository);
+			return Optional.of(writer::apply);
+		}
+		
+		return Optional.empty();
+	}
+	
+	/**
+	 * Element writer of a list or set of user defined types
+	 */
+	
+	static Optional<Function<Object, Object>> resolveUDTElementWriteConverter(Class<?> javaClass, IdentityName udtName, 
+			SessionRepository repository) {
+		
+		if (UDTValue.class.isAssignableFrom(javaClass)) {
+			return Optional.empty();
+		}
+
+		UserType userType = repository.findUserType(udtName.getName());
+		if (userType == null) {
+			throw new CasserMappingException("UserType not found for " + udtName + " with type " + javaClass);
+		}
+		
+		UDTValueWriter writer = new UDTValueWriter(javaClass, userType, repository);
+		return Optional.of(writer::apply);
+	}
 	
 	static IdentityName resolveUDT(Types.UDT annotation) {
 		return IdentityName.of(annotation.value(), annotation.forceQuote());
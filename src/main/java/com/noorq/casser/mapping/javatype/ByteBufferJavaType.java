@@ -18,10 +18,15 @@ package com.noorq.casser.mapping.javatype;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.Function;
 
 import com.datastax.driver.core.DataType;
+import com.noorq.casser.core.SessionRepository;
 import com.noorq.casser.mapping.ColumnType;
 import com.noorq.casser.mapping.annotation.Types;
+import com.noorq.casser.mapping.convert.ReadOnlyByteBufferConverter;
+import com.noorq.casser.mapping.convert.TypedConverter;
 import com.noorq.casser.mapping.type.AbstractDataType;
 import com.noorq.casser.mapping.type.DTDataType;
 
@@ -48,4 +53,20 @@ public final class ByteBufferJavaType extends AbstractJavaType {
 		return new DTDataType(columnType, DataType.blob());
 	}
 	
+	@Override
+	public Optional<Function<Object, Object>> resolveReadConverter(Method getter, 
+			AbstractDataType dataType, SessionRepository repository) {
+		
+		Types.Blob blob = getter.getDeclaredAnnotation(Types.Blob.class);
+		
+		if (blob != null && blob.readOnly()) {
+			return Optional.of(TypedConverter.create(
+					ByteBuffer.class, 
+					ByteBuffer.class, 
+					ReadOnlyByteBufferConverter.INSTANCE));
+		}
+		
+		return resolveReadConverter(dataType, repository);
+	}
+	
 }
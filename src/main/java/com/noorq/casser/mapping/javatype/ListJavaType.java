@@ -159,5 +159,23 @@ public final class ListJavaType extends AbstractJavaType {
 		
 		return Optional.empty();
 	}
+
+	@Override
+	public Optional<Function<Object, Object>> resolveElementWriteConverter(
+			AbstractDataType abstractDataType, SessionRepository repository) {
+		
+		if (abstractDataType instanceof DTDataType) {
+			return resolveTupleElementWriteConverter((DTDataType) abstractDataType, repository);
+		}
+		
+		else if (abstractDataType instanceof UDTListDataType) {
+			
+			UDTListDataType dt = (UDTListDataType) abstractDataType;
+			return resolveUDTElementWriteConverter(dt.getTypeArguments()[0], dt.getUdtName(), repository);
+			
+		}
+		
+		return Optional.empty();
+	}
 	
 }
@@ -59,6 +59,10 @@ public final class MappingJavaTypes {
 		add(builder, new ListJavaType());
 		add(builder, new SetJavaType());
 		add(builder, new MapJavaType());
+		add(builder, PrimitiveCollectionJavaType.LONG_SET);
+		add(builder, PrimitiveCollectionJavaType.INT_SET);
+		add(builder, PrimitiveCollectionJavaType.LONG_LIST);
+		add(builder, PrimitiveCollectionJavaType.INT_LIST);
 		add(builder, TUPLE_VALUE_JAVA_TYPE);
 		add(builder, UDT_VALUE_JAVA_TYPE);
 		
@@ -80,6 +84,10 @@ public final class MappingJavaTypes {
 	private MappingJavaTypes() {
 	}
 	
+	public static boolean isPrimitiveCollection(Class<?> javaClass) {
+		return knownTypes.get(javaClass) instanceof PrimitiveCollectionJavaType;
+	}
+	
 	public static AbstractJavaType resolveJavaType(Class<?> javaClass) {
 		
 		AbstractJavaType ajt = knownTypes.get(javaClass);
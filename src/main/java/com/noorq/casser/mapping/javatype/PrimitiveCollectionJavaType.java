@@ -0,0 +1,80 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.javatype;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.mapping.ColumnType;
+import com.noorq.casser.mapping.convert.PrimitiveCollectionConverter;
+import com.noorq.casser.mapping.type.AbstractDataType;
+import com.noorq.casser.mapping.type.DTDataType;
+import com.noorq.casser.support.IntList;
+import com.noorq.casser.support.IntSet;
+import com.noorq.casser.support.LongList;
+import com.noorq.casser.support.LongSet;
+
+/**
+ * Collection of bigint or int values read into a primitive array
+ */
+
+public final class PrimitiveCollectionJavaType extends AbstractJavaType {
+
+	public static final PrimitiveCollectionJavaType LONG_SET = new PrimitiveCollectionJavaType(
+			LongSet.class, DataType.set(DataType.bigint()), PrimitiveCollectionConverter.LONG_SET);
+
+	public static final PrimitiveCollectionJavaType INT_SET = new PrimitiveCollectionJavaType(
+			IntSet.class, DataType.set(DataType.cint()), PrimitiveCollectionConverter.INT_SET);
+
+	public static final PrimitiveCollectionJavaType LONG_LIST = new PrimitiveCollectionJavaType(
+			LongList.class, DataType.list(DataType.bigint()), PrimitiveCollectionConverter.LONG_LIST);
+
+	public static final PrimitiveCollectionJavaType INT_LIST = new PrimitiveCollectionJavaType(
+			IntList.class, DataType.list(DataType.cint()), PrimitiveCollectionConverter.INT_LIST);
+	
+	private final Class<?> javaClass;
+	private final DataType dataType;
+	private final PrimitiveCollectionConverter converter;
+	
+	private PrimitiveCollectionJavaType(Class<?> javaClass, DataType dataType, PrimitiveCollectionConverter converter) {
+		this.javaClass = javaClass;
+		this.dataType = dataType;
+		this.converter = converter;
+	}
+	
+	@Override
+	public Class<?> getJavaClass() {
+		return javaClass;
+	}
+
+	@Override
+	public AbstractDataType resolveDataType(Method getter, Type genericJavaType, ColumnType columnType) {
+		return new DTDataType(columnType, dataType);
+	}
+
+	@Override
+	public Optional<Function<Object, Object>> resolveReadConverter(
+			AbstractDataType dataType, SessionRepository repository) {
+		ProtocolVersion protocolVersion = repository != null ? repository.getProtocolVersion() : ProtocolVersion.NEWEST_SUPPORTED;
+		return Optional.of(converter.forProtocol(protocolVersion));
+	}
+
+}
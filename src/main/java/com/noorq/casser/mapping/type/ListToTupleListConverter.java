@@ -33,7 +33,7 @@ public final class ListToTupleListConverter implements Function<Object, Object>
 	
 	@Override
 	public Object apply(Object t) {
-		return Transformers.transformList((List<Object>) t, writer);
+		return Transformers.copyList((List<Object>) t, writer);
 	}
 
 
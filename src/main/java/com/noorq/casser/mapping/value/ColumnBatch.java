@@ -0,0 +1,205 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import java.util.Iterator;
+import java.util.UUID;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.support.CasserMappingException;
+
+/**
+ * Rows of one fetched page decoded into column vectors.
+ * 
+ * Columns are in the order of the selected properties. Bigint and counter columns 
+ * are stored in long[], int columns in int[], double columns in double[], uuid and 
+ * timeuuid columns in UUID[] and the rest in Object[] after the read converters. 
+ * Converted properties always use Object[]. Nulls are marked in a bitmap per column.
+ */
+
+public final class ColumnBatch {
+
+	public enum VectorType {
+		LONG, INT, DOUBLE, UUID, OBJECT;
+	}
+	
+	private final RowReadPlan plan;
+	private final int size;
+	private final VectorType[] types;
+	private final Object[] vectors;
+	private final long[][] nulls;
+	
+	private ColumnBatch(RowReadPlan plan, int capacity) {
+		
+		this.plan = plan;
+		this.size = capacity;
+		
+		int columns = plan.size();
+		this.types = new VectorType[columns];
+		this.vectors = new Object[columns];
+		this.nulls = new long[columns][];
+		
+		for (int i = 0; i != columns; ++i) {
+			
+			VectorType type = getVectorType(plan, i);
+			types[i] = type;
+			nulls[i] = new long[(capacity + 63) >>> 6];
+			
+			switch(type) {
+			case LONG:
+				vectors[i] = new long[capacity];
+				break;
+			case INT:
+				vectors[i] = new int[capacity];
+				break;
+			case DOUBLE:
+				vectors[i] = new double[capacity];
+				break;
+			case UUID:
+				vectors[i] = new UUID[capacity];
+				break;
+			default:
+				vectors[i] = new Object[capacity];
+				break;
+			}
+		}
+		
+	}
+	
+	/**
+	 * Reads the given positive number of rows from the iterator, all the rows must have 
+	 * the same ColumnDefinitions
+	 */
+	
+	public static ColumnBatch read(Iterator<Row> rows, int count, RowReadPlanner planner) {
+		
+		if (count <= 0) {
+			throw new IllegalArgumentException("count must be positive " + count);
+		}
+		
+		Row first = rows.next();
+		ColumnBatch batch = new ColumnBatch(planner.getPlan(first), count);
+		
+		batch.set(0, first);
+		
+		for (int r = 1; r != count; ++r) {
+			batch.set(r, rows.next());
+		}
+		
+		return batch;
+	}
+	
+	private static VectorType getVectorType(RowReadPlan plan, int position) {
+		
+		DataType columnType = plan.getColumnType(position);
+		
+		if (columnType == null || plan.hasReadConverter(position)) {
+			return VectorType.OBJECT;
+		}
+		
+		switch(columnType.getName()) {
+		case BIGINT:
+		case COUNTER:
+			return VectorType.LONG;
+		case INT:
+			return VectorType.INT;
+		case DOUBLE:
+			return VectorType.DOUBLE;
+		case UUID:
+		case TIMEUUID:
+			return VectorType.UUID;
+		default:
+			return VectorType.OBJECT;
+		}
+	}
+	
+	private void set(int r, Row row) {
+		
+		for (int i = 0; i != types.length; ++i) {
+			
+			int columnIndex = plan.getColumnIndex(i);
+			
+			if (columnIndex == -1 || row.isNull(columnIndex)) {
+				nulls[i][r >>> 6] |= 1L << r;
+				continue;
+			}
+			
+			switch(types[i]) {
+			case LONG:
+				((long[]) vectors[i])[r] = row.getLong(columnIndex);
+				break;
+			case INT:
+				((int[]) vectors[i])[r] = row.getInt(columnIndex);
+				break;
+			case DOUBLE:
+				((double[]) vectors[i])[r] = row.getDouble(columnIndex);
+				break;
+			case UUID:
+				((UUID[]) vectors[i])[r] = row.getUUID(columnIndex);
+				break;
+			default:
+				((Object[]) vectors[i])[r] = plan.getValue(row, i);
+				break;
+			}
+		}
+		
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public int getColumnCount() {
+		return types.length;
+	}
+	
+	public VectorType getVectorType(int column) {
+		return types[column];
+	}
+	
+	public boolean isNull(int column, int row) {
+		return (nulls[column][row >>> 6] & (1L << row)) != 0;
+	}
+	
+	public long[] getLongs(int column) {
+		return (long[]) vector(column, VectorType.LONG);
+	}
+
+	public int[] getInts(int column) {
+		return (int[]) vector(column, VectorType.INT);
+	}
+
+	public double[] getDoubles(int column) {
+		return (double[]) vector(column, VectorType.DOUBLE);
+	}
+
+	public UUID[] getUUIDs(int column) {
+		return (UUID[]) vector(column, VectorType.UUID);
+	}
+	
+	public Object[] getObjects(int column) {
+		return (Object[]) vector(column, VectorType.OBJECT);
+	}
+	
+	private Object vector(int column, VectorType type) {
+		if (types[column] != type) {
+			throw new CasserMappingException("column " + column + " is stored as " + types[column] + " not " + type);
+		}
+		return vectors[column];
+	}
+	
+}
@@ -0,0 +1,36 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+/**
+ * Source of property values that can return primitive properties without boxing.
+ * 
+ * Missing and null values are returned as the default value of the primitive type. 
+ */
+
+public interface PrimitiveValueSource {
+
+	boolean getBoolean(String name);
+	
+	int getInt(String name);
+	
+	long getLong(String name);
+	
+	float getFloat(String name);
+	
+	double getDouble(String name);
+	
+}
@@ -16,9 +16,9 @@
 package com.noorq.casser.mapping.value;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
 
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
@@ -26,9 +26,13 @@ import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.Row;
 import com.noorq.casser.core.SessionRepository;
 import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.javatype.MappingJavaTypes;
+import com.noorq.casser.support.StringDictionary;
 
 public final class RowColumnValueProvider implements ColumnValueProvider {
 
+	private static final ByteBuffer EMPTY_COLLECTION = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
 	private final SessionRepository repository;
 	
 	public RowColumnValueProvider(SessionRepository repository) {
@@ -42,83 +46,115 @@ public final class RowColumnValueProvider implements ColumnValueProvider {
 		
 		Object value = null;
 		if (columnIndex != -1) {
-			value = readValueByIndex(source, columnIndex);
+			value = readValueByIndex(source, columnIndex, property);
 		}
 		else {
-			value = readValueByName(source, property.getColumnName().getName());
+			value = readValueByName(source, property);
 		}
 
-		if (value != null) {
-
-			Optional<Function<Object, Object>> converter = property.getReadConverter(repository);
-			
-			if (converter.isPresent()) {
-				value = converter.get().apply(value);
-			}
-			
-		}
+		value = property.getCodec(repository).read(value);
 
 		return (V) value;
 	}
 
-	private Object readValueByIndex(Row source, int columnIndex) {
+	private Object readValueByIndex(Row source, int columnIndex, CasserProperty property) {
 		
-		if (source.isNull(columnIndex)) {
-			return null;
+		DataType columnType = source.getColumnDefinitions().getType(columnIndex);
+
+		if (property.getStringDictionary().isPresent() && getCharset(columnType) != null) {
+			return readString(source, columnIndex, columnType, property.getStringDictionary().get());
 		}
 		
-		ColumnDefinitions columnDefinitions = source.getColumnDefinitions();
+		if (columnType.isCollection() && MappingJavaTypes.isPrimitiveCollection(property.getJavaType())) {
+			return readSerialized(source, columnIndex);
+		}
 		
-		DataType columnType = columnDefinitions.getType(columnIndex);
-
-		if (columnType.isCollection()) {
-
-			List<DataType> typeArguments = columnType.getTypeArguments();
-
-			switch (columnType.getName()) {
-			case SET:
-				return source.getSet(columnIndex, typeArguments.get(0).asJavaClass());
-			case MAP:
-				return source.getMap(columnIndex, typeArguments.get(0).asJavaClass(), typeArguments.get(1).asJavaClass());
-			case LIST:
-				return source.getList(columnIndex, typeArguments.get(0).asJavaClass());
-			}
-
+		return readValue(source, columnIndex, columnType, property.isLazyCollection(), getProtocolVersion(repository));
+	}
+	
+	private Object readValueByName(Row source, CasserProperty property) {
+		
+		String columnName = property.getColumnName().getName();
+		
+		int columnIndex = source.getColumnDefinitions().getIndexOf(columnName);
+		
+		if (columnIndex == -1) {
+			throw new IllegalArgumentException(columnName + " is not a column defined in this metadata");
 		}
-
-		ByteBuffer bytes = source.getBytesUnsafe(columnIndex);
-		Object value = columnType.deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED);
-
-		return value;
+		
+		return readValueByIndex(source, columnIndex, property);
 	}
 	
-	private Object readValueByName(Row source, String columnName) {
+	/**
+	 * Protocol version of the session, the newest without one
+	 */
+	
+	static ProtocolVersion getProtocolVersion(SessionRepository repository) {
+		return repository != null ? repository.getProtocolVersion() : ProtocolVersion.NEWEST_SUPPORTED;
+	}
+	
+	/**
+	 * Charset of the text column type or null 
+	 */
+	
+	static Charset getCharset(DataType columnType) {
 		
-		if (source.isNull(columnName)) {
+		switch(columnType.getName()) {
+		case ASCII:
+			return StandardCharsets.US_ASCII;
+		case TEXT:
+		case VARCHAR:
+			return StandardCharsets.UTF_8;
+		default:
 			return null;
 		}
+	}
+	
+	static String readString(Row source, int columnIndex, DataType columnType, StringDictionary dictionary) {
+		return dictionary.intern(source.getBytesUnsafe(columnIndex), getCharset(columnType));
+	}
+	
+	/**
+	 * Serialized collection without decoding, null collection is read as empty
+	 */
+	
+	static ByteBuffer readSerialized(Row source, int columnIndex) {
+		ByteBuffer bytes = source.getBytesUnsafe(columnIndex);
+		return bytes != null ? bytes : EMPTY_COLLECTION;
+	}
+	
+	static Object readValue(Row source, int columnIndex, DataType columnType, boolean lazy, ProtocolVersion protocolVersion) {
 		
-		ColumnDefinitions columnDefinitions = source.getColumnDefinitions();
+		if (source.isNull(columnIndex)) {
+			return null;
+		}
 		
-		DataType columnType = columnDefinitions.getType(columnName);
-
 		if (columnType.isCollection()) {
 
+			if (lazy) {
+				return SerializedCollections.of(source.getBytesUnsafe(columnIndex), columnType, protocolVersion);
+			}
+
 			List<DataType> typeArguments = columnType.getTypeArguments();
 
 			switch (columnType.getName()) {
 			case SET:
-				return source.getSet(columnName, typeArguments.get(0).asJavaClass());
+				return source.getSet(columnIndex, typeArguments.get(0).asJavaClass());
 			case MAP:
-				return source.getMap(columnName, typeArguments.get(0).asJavaClass(), typeArguments.get(1).asJavaClass());
+				return source.getMap(columnIndex, typeArguments.get(0).asJavaClass(), typeArguments.get(1).asJavaClass());
 			case LIST:
-				return source.getList(columnName, typeArguments.get(0).asJavaClass());
+				return source.getList(columnIndex, typeArguments.get(0).asJavaClass());
 			}
 
 		}
 
-		ByteBuffer bytes = source.getBytesUnsafe(columnName);
-		Object value = columnType.deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED);
+		ByteBuffer bytes = source.getBytesUnsafe(columnIndex);
+		
+		if (columnType.getName() == DataType.Name.BLOB) {
+			return bytes;
+		}
+		
+		Object value = columnType.deserialize(bytes, protocolVersion);
 
 		return value;
 	}
@@ -0,0 +1,239 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import java.util.List;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.PropertyCodec;
+import com.noorq.casser.mapping.javatype.MappingJavaTypes;
+import com.noorq.casser.support.CasserMappingException;
+import com.noorq.casser.support.StringDictionary;
+
+/**
+ * Column index, data type and read converter of every property, resolved 
+ * once for the ColumnDefinitions of a result set.
+ * 
+ * Values are addressed by the position of the property in the list the 
+ * plan was built from. Columns are either the columns at the same positions, 
+ * as for projections, or are found by the column names of the properties, 
+ * as for entities.
+ */
+
+public final class RowReadPlan {
+
+	private final ColumnDefinitions columnDefinitions;
+	private final List<CasserProperty> props;
+	private final int[] columnIndexes;
+	private final DataType[] columnTypes;
+	private final PropertyCodec[] codecs;
+	private final boolean[] lazyCollections;
+	private final boolean[] serializedCollections;
+	private final Class<?>[] primitiveTypes;
+	private final Class<?>[] unboxedTypes;
+	private final StringDictionary[] dictionaries;
+	private final ProtocolVersion protocolVersion;
+	
+	public RowReadPlan(ColumnDefinitions columnDefinitions, List<CasserProperty> props, SessionRepository repository, boolean byName) {
+		
+		this.columnDefinitions = columnDefinitions;
+		this.props = props;
+		this.protocolVersion = RowColumnValueProvider.getProtocolVersion(repository);
+		
+		int size = props.size();
+		this.columnIndexes = new int[size];
+		this.columnTypes = new DataType[size];
+		this.codecs = new PropertyCodec[size];
+		this.lazyCollections = new boolean[size];
+		this.serializedCollections = new boolean[size];
+		this.primitiveTypes = new Class<?>[size];
+		this.unboxedTypes = new Class<?>[size];
+		this.dictionaries = new StringDictionary[size];
+		
+		for (int i = 0; i != size; ++i) {
+			
+			CasserProperty prop = props.get(i);
+			
+			int columnIndex;
+			
+			if (byName) {
+				columnIndex = columnDefinitions.getIndexOf(prop.getColumnName().getName());
+			}
+			else if (i < columnDefinitions.size()) {
+				columnIndex = i;
+			}
+			else {
+				throw new CasserMappingException("column " + i + " of property " + prop.getPropertyName() 
+						+ " not found in the result set of " + columnDefinitions.size() + " columns");
+			}
+			
+			columnIndexes[i] = columnIndex;
+			
+			if (columnIndex != -1) {
+				columnTypes[i] = columnDefinitions.getType(columnIndex);
+			}
+			
+			codecs[i] = prop.getCodec(repository);
+			lazyCollections[i] = prop.isLazyCollection();
+			
+			if (columnIndex != -1 && columnTypes[i].isCollection()) {
+				serializedCollections[i] = MappingJavaTypes.isPrimitiveCollection(prop.getJavaType());
+			}
+			
+			if (columnIndex != -1 && RowColumnValueProvider.getCharset(columnTypes[i]) != null) {
+				dictionaries[i] = prop.getStringDictionary().orElse(null);
+			}
+			
+			if (columnIndex != -1 && !codecs[i].getReadConverter().isPresent()) {
+				Class<?> primitiveType = getPrimitiveType(columnTypes[i]);
+				unboxedTypes[i] = primitiveType;
+				if (primitiveType != null && primitiveType == prop.getJavaType()) {
+					primitiveTypes[i] = primitiveType;
+				}
+			}
+		}
+		
+	}
+	
+	private static Class<?> getPrimitiveType(DataType columnType) {
+		
+		switch(columnType.getName()) {
+		case BOOLEAN:
+			return boolean.class;
+		case INT:
+			return int.class;
+		case BIGINT:
+		case COUNTER:
+			return long.class;
+		case FLOAT:
+			return float.class;
+		case DOUBLE:
+			return double.class;
+		default:
+			return null;
+		}
+		
+	}
+	
+	public boolean isApplicable(ColumnDefinitions columnDefinitions) {
+		return this.columnDefinitions == columnDefinitions;
+	}
+	
+	public int size() {
+		return columnIndexes.length;
+	}
+	
+	public int getColumnIndex(int position) {
+		return columnIndexes[position];
+	}
+	
+	public DataType getColumnType(int position) {
+		return columnTypes[position];
+	}
+	
+	public boolean hasReadConverter(int position) {
+		return codecs[position].getReadConverter().isPresent();
+	}
+	
+	/**
+	 * Primitive type of the property if the value can be read with 
+	 * the primitive getter of the row, otherwise null.
+	 * 
+	 * The primitive getters of the plan read unboxed whenever the column has 
+	 * a primitive type and the property has no read converter, also for boxed 
+	 * properties, null is read as the default value then.
+	 */
+	
+	public Class<?> getPrimitiveType(int position) {
+		return primitiveTypes[position];
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <V> V getValue(Row row, int position) {
+		
+		int columnIndex = columnIndexes[position];
+		
+		if (columnIndex == -1) {
+			throw new CasserMappingException("column " + props.get(position).getColumnName() + " not found in the result set");
+		}
+		
+		if (serializedCollections[position]) {
+			return (V) codecs[position].read(RowColumnValueProvider.readSerialized(row, columnIndex));
+		}
+		
+		Object value = dictionaries[position] != null ?
+				RowColumnValueProvider.readString(row, columnIndex, columnTypes[position], dictionaries[position]) :
+				RowColumnValueProvider.readValue(row, columnIndex, columnTypes[position], lazyCollections[position], protocolVersion);
+		
+		return (V) codecs[position].read(value);
+	}
+	
+	public boolean getBoolean(Row row, int position) {
+		
+		if (unboxedTypes[position] == boolean.class) {
+			return row.getBool(columnIndexes[position]);
+		}
+		
+		Object value = getValue(row, position);
+		return value != null ? ((Boolean) value).booleanValue() : false;
+	}
+
+	public int getInt(Row row, int position) {
+		
+		if (unboxedTypes[position] == int.class) {
+			return row.getInt(columnIndexes[position]);
+		}
+		
+		Object value = getValue(row, position);
+		return value != null ? ((Number) value).intValue() : 0;
+	}
+
+	public long getLong(Row row, int position) {
+		
+		if (unboxedTypes[position] == long.class) {
+			return row.getLong(columnIndexes[position]);
+		}
+		
+		Object value = getValue(row, position);
+		return value != null ? ((Number) value).longValue() : 0L;
+	}
+
+	public float getFloat(Row row, int position) {
+		
+		if (unboxedTypes[position] == float.class) {
+			return row.getFloat(columnIndexes[position]);
+		}
+		
+		Object value = getValue(row, position);
+		return value != null ? ((Number) value).floatValue() : 0.0f;
+	}
+
+	public double getDouble(Row row, int position) {
+		
+		if (unboxedTypes[position] == double.class) {
+			return row.getDouble(columnIndexes[position]);
+		}
+		
+		Object value = getValue(row, position);
+		return value != null ? ((Number) value).doubleValue() : 0.0;
+	}
+	
+}
@@ -0,0 +1,82 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import com.google.common.collect.ImmutableList;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+
+/**
+ * Keeps the RowReadPlan of the last seen ColumnDefinitions, so a plan is
+ * built once per result set and not per row.
+ * 
+ * Properties are read from the columns at the same positions, entity planners 
+ * find the columns by name.
+ */
+
+public final class RowReadPlanner {
+
+	private final SessionRepository repository;
+	private final List<CasserProperty> props;
+	private final boolean byName;
+	
+	private volatile RowReadPlan plan;
+	
+	public RowReadPlanner(SessionRepository repository, Collection<CasserProperty> props) {
+		this(repository, ImmutableList.copyOf(props), false);
+	}
+	
+	public RowReadPlanner(SessionRepository repository, CasserProperty... props) {
+		this(repository, ImmutableList.copyOf(props), false);
+	}
+	
+	private RowReadPlanner(SessionRepository repository, List<CasserProperty> props, boolean byName) {
+		this.repository = repository;
+		this.props = props;
+		this.byName = byName;
+	}
+	
+	public static RowReadPlanner forEntity(SessionRepository repository, CasserEntity entity) {
+		return new RowReadPlanner(repository, ImmutableList.copyOf(entity.getOrderedProperties()), true);
+	}
+	
+	public List<CasserProperty> getProperties() {
+		return props;
+	}
+	
+	public RowReadPlan getPlan(Row row) {
+		return getPlan(row.getColumnDefinitions());
+	}
+
+	public RowReadPlan getPlan(ColumnDefinitions columnDefinitions) {
+		
+		RowReadPlan current = plan;
+		
+		if (current == null || !current.isApplicable(columnDefinitions)) {
+			current = new RowReadPlan(columnDefinitions, props, repository, byName);
+			plan = current;
+		}
+		
+		return current;
+	}
+	
+}
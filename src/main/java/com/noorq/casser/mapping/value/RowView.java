@@ -0,0 +1,95 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import com.datastax.driver.core.Row;
+import com.noorq.casser.mapping.CasserProperty;
+
+/**
+ * Reusable view of the current row, columns are addressed by the position of 
+ * the property in the selection.
+ * 
+ * The same instance is passed for every row, it is valid only during the callback
+ * and must not be kept or shared. Copy the values that are needed later.
+ */
+
+public final class RowView {
+
+	private final RowReadPlanner planner;
+	
+	private Row row;
+	private RowReadPlan plan;
+	
+	public RowView(RowReadPlanner planner) {
+		this.planner = planner;
+	}
+	
+	public RowView set(Row row) {
+		this.row = row;
+		this.plan = planner.getPlan(row);
+		return this;
+	}
+	
+	public int getColumnCount() {
+		return planner.getProperties().size();
+	}
+	
+	public CasserProperty getProperty(int column) {
+		return planner.getProperties().get(column);
+	}
+	
+	/**
+	 * Position of the property in the selection or -1
+	 */
+	
+	public int indexOf(CasserProperty property) {
+		return planner.getProperties().indexOf(property);
+	}
+	
+	public boolean isNull(int column) {
+		int columnIndex = plan.getColumnIndex(column);
+		return columnIndex == -1 || row.isNull(columnIndex);
+	}
+	
+	public <V> V getValue(int column) {
+		return plan.getValue(row, column);
+	}
+	
+	public boolean getBoolean(int column) {
+		return plan.getBoolean(row, column);
+	}
+
+	public int getInt(int column) {
+		return plan.getInt(row, column);
+	}
+
+	public long getLong(int column) {
+		return plan.getLong(row, column);
+	}
+
+	public float getFloat(int column) {
+		return plan.getFloat(row, column);
+	}
+
+	public double getDouble(int column) {
+		return plan.getDouble(row, column);
+	}
+	
+	public Row getRow() {
+		return row;
+	}
+	
+}
@@ -0,0 +1,491 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.noorq.casser.support.CasserException;
+
+/**
+ * Read-only collection views over the serialized value of a collection column.
+ * 
+ * Element offsets are indexed once, elements are deserialized on the first access
+ * and cached afterwards. Map lookups binary-search the keys, which are stored in the 
+ * column order, and decode only the keys they probe. Set membership builds a hash 
+ * index of the elements on the first call.
+ */
+
+public final class SerializedCollections {
+
+	private static final Object NULL = new Object();
+	
+	private SerializedCollections() {
+	}
+	
+	public static Object of(ByteBuffer bytes, DataType collectionType, ProtocolVersion protocolVersion) {
+		
+		if (bytes == null) {
+			return null;
+		}
+		
+		List<DataType> typeArguments = collectionType.getTypeArguments();
+		
+		switch(collectionType.getName()) {
+		
+		case LIST:
+			return new SerializedList<Object>(new SerializedElements(bytes, 1, protocolVersion), typeArguments.get(0));
+		
+		case SET:
+			return new SerializedSet<Object>(new SerializedElements(bytes, 1, protocolVersion), typeArguments.get(0));
+			
+		case MAP:
+			return new SerializedMap<Object, Object>(new SerializedElements(bytes, 2, protocolVersion), typeArguments.get(0), typeArguments.get(1));
+
+		default:
+			throw new CasserException("not a collection type " + collectionType);
+		}
+		
+	}
+	
+	/**
+	 * Decodes set or list of bigint values without boxing
+	 */
+	
+	public static long[] readLongs(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+		
+		if (!bytes.hasRemaining()) {
+			return new long[0];
+		}
+		
+		ByteBuffer input = bytes.duplicate();
+		boolean shortSizes = protocolVersion.compareTo(ProtocolVersion.V2) <= 0;
+		
+		long[] values = new long[SerializedElements.readSize(input, shortSizes)];
+		
+		for (int i = 0; i != values.length; ++i) {
+			int length = SerializedElements.readSize(input, shortSizes);
+			if (length != 8) {
+				throw new CasserException("invalid bigint element size " + length);
+			}
+			values[i] = input.getLong();
+		}
+		
+		return values;
+	}
+
+	/**
+	 * Decodes set or list of int values without boxing
+	 */
+	
+	public static int[] readInts(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+		
+		if (!bytes.hasRemaining()) {
+			return new int[0];
+		}
+		
+		ByteBuffer input = bytes.duplicate();
+		boolean shortSizes = protocolVersion.compareTo(ProtocolVersion.V2) <= 0;
+		
+		int[] values = new int[SerializedElements.readSize(input, shortSizes)];
+		
+		for (int i = 0; i != values.length; ++i) {
+			int length = SerializedElements.readSize(input, shortSizes);
+			if (length != 4) {
+				throw new CasserException("invalid int element size " + length);
+			}
+			values[i] = input.getInt();
+		}
+		
+		return values;
+	}
+	
+	static final class SerializedElements {
+		
+		private final ByteBuffer bytes;
+		private final ProtocolVersion protocolVersion;
+		private final int[] offsets;
+		private final int[] lengths;
+		private final AtomicReferenceArray<Object> cache;
+		
+		SerializedElements(ByteBuffer bytes, int width, ProtocolVersion protocolVersion) {
+			
+			this.bytes = bytes.duplicate();
+			this.protocolVersion = protocolVersion;
+			
+			boolean shortSizes = protocolVersion.compareTo(ProtocolVersion.V2) <= 0;
+			
+			ByteBuffer input = bytes.duplicate();
+			
+			int size = readSize(input, shortSizes) * width;
+			this.offsets = new int[size];
+			this.lengths = new int[size];
+			this.cache = new AtomicReferenceArray<Object>(size);
+			
+			for (int i = 0; i != size; ++i) {
+				
+				int length = readSize(input, shortSizes);
+				offsets[i] = input.position();
+				lengths[i] = length;
+				
+				if (length > 0) {
+					input.position(input.position() + length);
+				}
+			}
+			
+		}
+		
+		private static int readSize(ByteBuffer input, boolean shortSizes) {
+			return shortSizes ? input.getShort() & 0xFFFF : input.getInt();
+		}
+		
+		int size() {
+			return offsets.length;
+		}
+		
+		/**
+		 * Decodes the element on the first call, concurrent first calls may decode it 
+		 * more than once but all of them get the first result
+		 */
+		
+		Object get(int index, DataType elementType) {
+			
+			Object value = cache.get(index);
+			
+			if (value == null) {
+				Object decoded = decode(index, elementType);
+				value = decoded != null ? decoded : NULL;
+				if (!cache.compareAndSet(index, null, value)) {
+					value = cache.get(index);
+				}
+			}
+			
+			return value != NULL ? value : null;
+		}
+		
+		private Object decode(int index, DataType elementType) {
+			
+			int length = lengths[index];
+			
+			if (length < 0) {
+				return null;
+			}
+			
+			ByteBuffer element = bytes.duplicate();
+			element.position(offsets[index]);
+			element.limit(offsets[index] + length);
+			
+			return elementType.deserialize(element.slice(), protocolVersion);
+		}
+		
+	}
+	
+	static final class SerializedList<E> extends AbstractList<E> implements RandomAccess {
+		
+		private final SerializedElements elements;
+		private final DataType elementType;
+		
+		SerializedList(SerializedElements elements, DataType elementType) {
+			this.elements = elements;
+			this.elementType = elementType;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public E get(int index) {
+			return (E) elements.get(index, elementType);
+		}
+
+		@Override
+		public int size() {
+			return elements.size();
+		}
+		
+	}
+	
+	static final class SerializedSet<E> extends AbstractSet<E> {
+		
+		private final SerializedList<E> list;
+		
+		private volatile Set<E> lookup;
+		
+		SerializedSet(SerializedElements elements, DataType elementType) {
+			this.list = new SerializedList<E>(elements, elementType);
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			
+			Set<E> set = lookup;
+			
+			if (set == null) {
+				set = new HashSet<E>(list);
+				lookup = set;
+			}
+			
+			return set.contains(o);
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return list.iterator();
+		}
+
+		@Override
+		public int size() {
+			return list.size();
+		}
+		
+	}
+	
+	static final class SerializedMap<K, V> extends AbstractMap<K, V> {
+
+		private final SerializedElements elements;
+		private final DataType keyType;
+		private final DataType valueType;
+		private final Comparator<Object> keyOrder;
+		
+		private Set<Map.Entry<K, V>> entrySet;
+		
+		SerializedMap(SerializedElements elements, DataType keyType, DataType valueType) {
+			this.elements = elements;
+			this.keyType = keyType;
+			this.valueType = valueType;
+			this.keyOrder = keyOrder(keyType);
+		}
+		
+		/**
+		 * Returns the comparator that matches the column order of the keys, or null 
+		 * when the Java order of the decoded keys differs from it
+		 */
+		
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static Comparator<Object> keyOrder(DataType keyType) {
+			
+			switch(keyType.getName()) {
+			
+			case ASCII:
+			case BIGINT:
+			case BOOLEAN:
+			case COUNTER:
+			case DECIMAL:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case TIMESTAMP:
+			case VARINT:
+				return (a, b) -> ((Comparable) a).compareTo(b);
+				
+			case TEXT:
+			case VARCHAR:
+				return SerializedMap::compareCodePoints;
+				
+			default:
+				return null;
+			}
+			
+		}
+		
+		/**
+		 * UTF-8 bytes sort in the code point order, String.compareTo does not 
+		 * for the supplementary characters
+		 */
+		
+		private static int compareCodePoints(Object a, Object b) {
+			
+			String left = (String) a;
+			String right = (String) b;
+			
+			int i = 0, j = 0;
+			
+			while (i < left.length() && j < right.length()) {
+				
+				int l = left.codePointAt(i);
+				int r = right.codePointAt(j);
+				
+				if (l != r) {
+					return Integer.compare(l, r);
+				}
+				
+				i += Character.charCount(l);
+				j += Character.charCount(r);
+			}
+			
+			return Boolean.compare(i < left.length(), j < right.length());
+		}
+		
+		@SuppressWarnings("unchecked")
+		K getKey(int index) {
+			return (K) elements.get(index << 1, keyType);
+		}
+		
+		@SuppressWarnings("unchecked")
+		V getValue(int index) {
+			return (V) elements.get((index << 1) + 1, valueType);
+		}
+		
+		int indexOfKey(Object key) {
+			
+			if (keyOrder == null) {
+				for (int i = 0; i != size(); ++i) {
+					if (Objects.equals(getKey(i), key)) {
+						return i;
+					}
+				}
+				return -1;
+			}
+			
+			if (!keyType.asJavaClass().isInstance(key)) {
+				return -1;
+			}
+			
+			int low = 0;
+			int high = size() - 1;
+			
+			while (low <= high) {
+				
+				int mid = (low + high) >>> 1;
+				Object probe = getKey(mid);
+				int cmp = keyOrder.compare(probe, key);
+				
+				if (cmp < 0) {
+					low = mid + 1;
+				}
+				else if (cmp > 0) {
+					high = mid - 1;
+				}
+				else {
+					return probe.equals(key) ? mid : -1;
+				}
+			}
+			
+			return -1;
+		}
+		
+		@Override
+		public V get(Object key) {
+			int index = indexOfKey(key);
+			return index != -1 ? getValue(index) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return indexOfKey(key) != -1;
+		}
+
+		@Override
+		public int size() {
+			return elements.size() >> 1;
+		}
+
+		@Override
+		public Set<Map.Entry<K, V>> entrySet() {
+			
+			if (entrySet == null) {
+				entrySet = new AbstractSet<Map.Entry<K, V>>() {
+
+					@Override
+					public Iterator<Map.Entry<K, V>> iterator() {
+						return new EntryIterator();
+					}
+
+					@Override
+					public int size() {
+						return SerializedMap.this.size();
+					}
+					
+				};
+			}
+			
+			return entrySet;
+		}
+		
+		final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+			
+			private int index = 0;
+			
+			@Override
+			public boolean hasNext() {
+				return index < size();
+			}
+
+			@Override
+			public Map.Entry<K, V> next() {
+				
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				
+				final int entryIndex = index++;
+				
+				return new Map.Entry<K, V>() {
+
+					@Override
+					public K getKey() {
+						return SerializedMap.this.getKey(entryIndex);
+					}
+
+					@Override
+					public V getValue() {
+						return SerializedMap.this.getValue(entryIndex);
+					}
+
+					@Override
+					public V setValue(V value) {
+						throw new UnsupportedOperationException();
+					}
+
+					@Override
+					public boolean equals(Object o) {
+						if (!(o instanceof Map.Entry)) {
+							return false;
+						}
+						Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+						return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+					}
+
+					@Override
+					public int hashCode() {
+						return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+					}
+
+					@Override
+					public String toString() {
+						return getKey() + "=" + getValue();
+					}
+					
+				};
+			}
+			
+		}
+		
+	}
+	
+}
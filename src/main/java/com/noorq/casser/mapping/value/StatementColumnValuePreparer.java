@@ -15,9 +15,6 @@
  */
 package com.noorq.casser.mapping.value;
 
-import java.util.Optional;
-import java.util.function.Function;
-
 import com.datastax.driver.core.querybuilder.BindMarker;
 import com.noorq.casser.core.CasserValidator;
 import com.noorq.casser.core.SessionRepository;
@@ -41,15 +38,7 @@ public final class StatementColumnValuePreparer implements ColumnValuePreparer {
 		
 		CasserValidator.INSTANCE.validate(prop, value);
 		
-		if (value != null) {
-
-			Optional<Function<Object, Object>> converter = prop.getWriteConverter(repository);
-
-			if (converter.isPresent()) {
-				value = converter.get().apply(value);
-			}
-
-		}
+		value = prop.getCodec(repository).write(value);
 
 		return value;
 	}
@@ -16,8 +16,6 @@
 package com.noorq.casser.mapping.value;
 
 import java.nio.ByteBuffer;
-import java.util.Optional;
-import java.util.function.Function;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.ProtocolVersion;
@@ -51,15 +49,7 @@ public final class TupleColumnValueProvider implements ColumnValueProvider {
 
 		Object value = fieldType.deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED);
 		
-		if (value != null) {
-
-			Optional<Function<Object, Object>> converter = property.getReadConverter(repository);
-			
-			if (converter.isPresent()) {
-				value = converter.get().apply(value);
-			}
-			
-		}
+		value = property.getCodec(repository).read(value);
 		
 		return (V) value;
 		
@@ -15,9 +15,6 @@
  */
 package com.noorq.casser.mapping.value;
 
-import java.util.Optional;
-import java.util.function.Function;
-
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.UserType;
@@ -47,11 +44,7 @@ public final class UDTColumnValuePreparer implements ColumnValuePreparer {
 		
 		if (value != null) {
 
-			Optional<Function<Object, Object>> converter = prop.getWriteConverter(repository);
-
-			if (converter.isPresent()) {
-				value = converter.get().apply(value);
-			}
+			value = prop.getCodec(repository).write(value);
 
 			DataType dataType = userType.getFieldType(prop.getColumnName().getName());
 			
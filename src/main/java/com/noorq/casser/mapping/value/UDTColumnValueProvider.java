@@ -15,21 +15,19 @@
  */
 package com.noorq.casser.mapping.value;
 
-import java.nio.ByteBuffer;
-import java.util.Optional;
-import java.util.function.Function;
-
-import com.datastax.driver.core.DataType;
-import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.mapping.CasserEntity;
 import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.support.CasserMappingException;
 
 public final class UDTColumnValueProvider implements ColumnValueProvider {
 
 	private final SessionRepository repository;
 	
+	private volatile UDTReadPlan plan;
+	
 	public UDTColumnValueProvider(SessionRepository repository) {
 		this.repository = repository;
 	}
@@ -39,29 +37,27 @@ public final class UDTColumnValueProvider implements ColumnValueProvider {
 
 		UDTValue source = (UDTValue) sourceObj;
 		
-		UserType userType = source.getType();
-		
-		String name = property.getColumnName().getName();
+		CasserEntity entity = property.getEntity();
 		
-		ByteBuffer bytes = source.getBytesUnsafe(name);
-		if (bytes == null) {
-			return null;
+		int position = entity.getOrderedIndex(property.getPropertyName());
+		if (position == -1) {
+			throw new CasserMappingException("property " + property.getPropertyName() + " not found in " + entity.getMappingInterface());
 		}
 		
-		DataType fieldType = userType.getFieldType(name);
-		Object value = fieldType.deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED);
+		return getPlan(source.getType(), entity).getValue(source, position);
 		
-		if (value != null) {
-
-			Optional<Function<Object, Object>> converter = property.getReadConverter(repository);
-			
-			if (converter.isPresent()) {
-				value = converter.get().apply(value);
-			}
-			
-		}
+	}
+	
+	private UDTReadPlan getPlan(UserType userType, CasserEntity entity) {
 		
-		return (V) value;
+		UDTReadPlan current = plan;
 		
+		if (current == null || !current.isApplicable(userType, entity)) {
+			current = new UDTReadPlan(userType, entity, repository);
+			plan = current;
+		}
+		
+		return current;
 	}
+	
 }
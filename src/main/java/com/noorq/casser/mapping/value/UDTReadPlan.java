@@ -0,0 +1,112 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.PropertyCodec;
+import com.noorq.casser.support.CasserMappingException;
+
+/**
+ * Field index, field type and codec of every property of a UDT entity,
+ * resolved once for a UserType.
+ * 
+ * Values are addressed by the position of the property in 
+ * CasserEntity.getOrderedProperties().
+ */
+
+public final class UDTReadPlan {
+
+	private final UserType userType;
+	private final CasserEntity entity;
+	private final String[] fieldNames;
+	private final int[] fieldIndexes;
+	private final DataType[] fieldTypes;
+	private final PropertyCodec[] codecs;
+	
+	public UDTReadPlan(UserType userType, CasserEntity entity, SessionRepository repository) {
+		
+		this.userType = userType;
+		this.entity = entity;
+		
+		List<UserType.Field> fields = new ArrayList<UserType.Field>(userType.size());
+		Map<String, Integer> fieldIndexByName = new HashMap<String, Integer>();
+		for (UserType.Field field : userType) {
+			fieldIndexByName.put(field.getName(), fields.size());
+			fields.add(field);
+		}
+
+		int size = entity.getOrderedProperties().size();
+		this.fieldNames = new String[size];
+		this.fieldIndexes = new int[size];
+		this.fieldTypes = new DataType[size];
+		this.codecs = new PropertyCodec[size];
+		
+		int i = 0;
+		for (CasserProperty prop : entity.getOrderedProperties()) {
+			
+			String name = prop.getColumnName().getName();
+			
+			Integer fieldIndex = fieldIndexByName.get(name);
+			if (fieldIndex == null) {
+				fieldIndex = fieldIndexByName.get(name.toLowerCase());
+			}
+			
+			fieldNames[i] = name;
+			fieldIndexes[i] = fieldIndex != null ? fieldIndex.intValue() : -1;
+			fieldTypes[i] = fieldIndex != null ? fields.get(fieldIndex).getType() : null;
+			codecs[i] = prop.getCodec(repository);
+			
+			i++;
+		}
+		
+	}
+	
+	public boolean isApplicable(UserType userType, CasserEntity entity) {
+		return this.userType == userType && this.entity == entity;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <V> V getValue(UDTValue source, int position) {
+		
+		int fieldIndex = fieldIndexes[position];
+		
+		if (fieldIndex == -1) {
+			throw new CasserMappingException("field " + fieldNames[position] + " not found in the user type " + userType.getTypeName());
+		}
+		
+		ByteBuffer bytes = source.getBytesUnsafe(fieldIndex);
+		if (bytes == null) {
+			return null;
+		}
+		
+		Object value = fieldTypes[position].deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED);
+		
+		return (V) codecs[position].read(value);
+	}
+	
+}
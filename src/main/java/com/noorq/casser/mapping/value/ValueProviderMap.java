@@ -20,19 +20,33 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.datastax.driver.core.Row;
 import com.noorq.casser.mapping.CasserEntity;
 import com.noorq.casser.mapping.CasserProperty;
 import com.noorq.casser.support.CasserMappingException;
 
-public final class ValueProviderMap implements Map<String, Object> {
+public final class ValueProviderMap implements Map<String, Object>, PrimitiveValueSource {
 
 	private final Object source;
 	private final ColumnValueProvider valueProvider;
+	private final RowReadPlan plan;
 	private final CasserEntity entity;
 	
 	public ValueProviderMap(Object source, ColumnValueProvider valueProvider, CasserEntity entity) {
 		this.source = source;
 		this.valueProvider = valueProvider;
+		this.plan = null;
+		this.entity = entity;
+	}
+	
+	/**
+	 * Reads the row through a plan built from entity.getOrderedProperties() 
+	 */
+	
+	public ValueProviderMap(Row source, RowReadPlan plan, CasserEntity entity) {
+		this.source = source;
+		this.valueProvider = null;
+		this.plan = plan;
 		this.entity = entity;
 	}
 	
@@ -40,6 +54,10 @@ public final class ValueProviderMap implements Map<String, Object> {
 	public Object get(Object key) {
 		if (key instanceof String) {
 			String name = (String) key;
+			if (plan != null) {
+				int index = entity.getOrderedIndex(name);
+				return index != -1 ? plan.getValue((Row) source, index) : null;
+			}
 			CasserProperty prop = entity.getProperty(name);
 			if (prop != null) {
 				return valueProvider.getColumnValue(source, -1, prop);
@@ -48,6 +66,66 @@ public final class ValueProviderMap implements Map<String, Object> {
 		return null;
 	}
 	
+	@Override
+	public boolean getBoolean(String name) {
+		
+		if (plan != null) {
+			int index = entity.getOrderedIndex(name);
+			return index != -1 ? plan.getBoolean((Row) source, index) : false;
+		}
+		
+		Object value = get(name);
+		return value != null ? ((Boolean) value).booleanValue() : false;
+	}
+
+	@Override
+	public int getInt(String name) {
+		
+		if (plan != null) {
+			int index = entity.getOrderedIndex(name);
+			return index != -1 ? plan.getInt((Row) source, index) : 0;
+		}
+		
+		Object value = get(name);
+		return value != null ? ((Number) value).intValue() : 0;
+	}
+
+	@Override
+	public long getLong(String name) {
+		
+		if (plan != null) {
+			int index = entity.getOrderedIndex(name);
+			return index != -1 ? plan.getLong((Row) source, index) : 0L;
+		}
+		
+		Object value = get(name);
+		return value != null ? ((Number) value).longValue() : 0L;
+	}
+
+	@Override
+	public float getFloat(String name) {
+		
+		if (plan != null) {
+			int index = entity.getOrderedIndex(name);
+			return index != -1 ? plan.getFloat((Row) source, index) : 0.0f;
+		}
+		
+		Object value = get(name);
+		return value != null ? ((Number) value).floatValue() : 0.0f;
+	}
+
+	@Override
+	public double getDouble(String name) {
+		
+		if (plan != null) {
+			int index = entity.getOrderedIndex(name);
+			return index != -1 ? plan.getDouble((Row) source, index) : 0.0;
+		}
+		
+		Object value = get(name);
+		return value != null ? ((Number) value).doubleValue() : 0.0;
+	}
+	
 	@Override
 	public Set<String> keySet() {
 		return entity.getOrderedProperties().stream().map(p -> p.getPropertyName()).collect(Collectors.toSet());
@@ -0,0 +1,290 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.mapping.value;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.datastax.driver.core.Row;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.support.CasserMappingException;
+
+/**
+ * Eager alternative to ValueProviderMap: all properties of the entity are 
+ * decoded once, in the order of CasserEntity.getOrderedProperties(), and 
+ * later reads go to the array.
+ * 
+ * Primitive properties read through a plan are kept unboxed.
+ */
+
+public final class ValueSnapshotMap implements Map<String, Object>, PrimitiveValueSource {
+
+	private static final Object PRIMITIVE = new Object();
+	
+	private final CasserEntity entity;
+	private final Object[] values;
+	private final RowReadPlan plan;
+	private long[] primitives;
+	
+	public ValueSnapshotMap(Object source, ColumnValueProvider valueProvider, CasserEntity entity) {
+		this.entity = entity;
+		this.values = new Object[entity.getOrderedProperties().size()];
+		this.plan = null;
+		
+		int i = 0;
+		for (CasserProperty prop : entity.getOrderedProperties()) {
+			values[i++] = valueProvider.getColumnValue(source, -1, prop);
+		}
+	}
+	
+	/**
+	 * Reads the row through a plan built from entity.getOrderedProperties() 
+	 */
+	
+	public ValueSnapshotMap(Row source, RowReadPlan plan, CasserEntity entity) {
+		this.entity = entity;
+		this.values = new Object[plan.size()];
+		this.plan = plan;
+		
+		for (int i = 0; i != values.length; ++i) {
+			
+			Class<?> primitiveType = plan.getPrimitiveType(i);
+			
+			if (primitiveType != null && !source.isNull(plan.getColumnIndex(i))) {
+				
+				if (primitives == null) {
+					primitives = new long[values.length];
+				}
+				
+				primitives[i] = readPrimitive(source, i, primitiveType);
+				values[i] = PRIMITIVE;
+			}
+			else {
+				values[i] = plan.getValue(source, i);
+			}
+		}
+	}
+	
+	private long readPrimitive(Row source, int index, Class<?> primitiveType) {
+		
+		if (primitiveType == long.class) {
+			return plan.getLong(source, index);
+		}
+		else if (primitiveType == int.class) {
+			return plan.getInt(source, index);
+		}
+		else if (primitiveType == double.class) {
+			return Double.doubleToRawLongBits(plan.getDouble(source, index));
+		}
+		else if (primitiveType == float.class) {
+			return Float.floatToRawIntBits(plan.getFloat(source, index));
+		}
+		else {
+			return plan.getBoolean(source, index) ? 1L : 0L;
+		}
+	}
+	
+	private Object boxPrimitive(int index) {
+		
+		Class<?> primitiveType = plan.getPrimitiveType(index);
+		long bits = primitives[index];
+		
+		if (primitiveType == long.class) {
+			return bits;
+		}
+		else if (primitiveType == int.class) {
+			return (int) bits;
+		}
+		else if (primitiveType == double.class) {
+			return Double.longBitsToDouble(bits);
+		}
+		else if (primitiveType == float.class) {
+			return Float.intBitsToFloat((int) bits);
+		}
+		else {
+			return bits != 0L;
+		}
+	}
+	
+	private Object getValue(int index) {
+		Object value = values[index];
+		return value == PRIMITIVE ? boxPrimitive(index) : value;
+	}
+	
+	@Override
+	public Object get(Object key) {
+		if (key instanceof String) {
+			int index = entity.getOrderedIndex((String) key);
+			if (index != -1) {
+				return getValue(index);
+			}
+		}
+		return null;
+	}
+	
+	@Override
+	public boolean getBoolean(String name) {
+		int index = entity.getOrderedIndex(name);
+		if (index == -1) {
+			return false;
+		}
+		Object value = values[index];
+		if (value == PRIMITIVE) {
+			return primitives[index] != 0L;
+		}
+		return value != null ? ((Boolean) value).booleanValue() : false;
+	}
+
+	@Override
+	public int getInt(String name) {
+		int index = entity.getOrderedIndex(name);
+		if (index == -1) {
+			return 0;
+		}
+		Object value = values[index];
+		if (value == PRIMITIVE) {
+			return (int) primitives[index];
+		}
+		return value != null ? ((Number) value).intValue() : 0;
+	}
+
+	@Override
+	public long getLong(String name) {
+		int index = entity.getOrderedIndex(name);
+		if (index == -1) {
+			return 0L;
+		}
+		Object value = values[index];
+		if (value == PRIMITIVE) {
+			return primitives[index];
+		}
+		return value != null ? ((Number) value).longValue() : 0L;
+	}
+
+	@Override
+	public float getFloat(String name) {
+		int index = entity.getOrderedIndex(name);
+		if (index == -1) {
+			return 0.0f;
+		}
+		Object value = values[index];
+		if (value == PRIMITIVE) {
+			return Float.intBitsToFloat((int) primitives[index]);
+		}
+		return value != null ? ((Number) value).floatValue() : 0.0f;
+	}
+
+	@Override
+	public double getDouble(String name) {
+		int index = entity.getOrderedIndex(name);
+		if (index == -1) {
+			return 0.0;
+		}
+		Object value = values[index];
+		if (value == PRIMITIVE) {
+			return Double.longBitsToDouble(primitives[index]);
+		}
+		return value != null ? ((Number) value).doubleValue() : 0.0;
+	}
+	
+	@Override
+	public Set<String> keySet() {
+		return entity.getOrderedProperties().stream().map(p -> p.getPropertyName()).collect(Collectors.toSet());
+	}
+	
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return values.length == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (key instanceof String) {
+			return entity.getOrderedIndex((String) key) != -1;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		throwShouldNeverCall();
+		return false;
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		throwShouldNeverCall();
+		return null;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		throwShouldNeverCall();
+		return null;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> m) {
+		throwShouldNeverCall();
+	}
+
+	@Override
+	public void clear() {
+		throwShouldNeverCall();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		throwShouldNeverCall();
+		return null;
+	}
+
+	@Override
+	public Set<java.util.Map.Entry<String, Object>> entrySet() {
+		throwShouldNeverCall();
+		return null;
+	}
+
+	private void throwShouldNeverCall() {
+		throw new CasserMappingException("should never be called");
+	}
+
+	@Override
+	public String toString() {
+		
+		StringBuilder str = new StringBuilder();
+		str.append("{");
+		
+		int i = 0;
+		for (CasserProperty prop : entity.getOrderedProperties()) {
+			if (i != 0) {
+				str.append(", ");
+			}
+			str.append(prop.getPropertyName()).append("=").append(getValue(i++));
+		}
+		
+		return str.append("}").toString();
+	}
+	
+}
@@ -0,0 +1,68 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.support;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of int values backed by an array.
+ * 
+ * Can be used as the type of list&lt;int&gt; property, values are decoded 
+ * directly from the serialized collection.
+ */
+
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+
+	public static final IntList EMPTY = new IntList(new int[0]);
+	
+	private final int[] values;
+	
+	private IntList(int[] values) {
+		this.values = values;
+	}
+	
+	public static IntList of(int... values) {
+		return new IntList(values.clone());
+	}
+	
+	/**
+	 * Wraps the array without copying
+	 */
+	
+	public static IntList wrap(int[] values) {
+		return new IntList(values);
+	}
+	
+	public int getInt(int index) {
+		return values[index];
+	}
+	
+	public int[] toIntArray() {
+		return values.clone();
+	}
+	
+	@Override
+	public Integer get(int index) {
+		return values[index];
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+	
+}
@@ -0,0 +1,68 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.support;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of long values backed by an array.
+ * 
+ * Can be used as the type of list&lt;bigint&gt; property, values are decoded 
+ * directly from the serialized collection.
+ */
+
+public final class LongList extends AbstractList<Long> implements RandomAccess {
+
+	public static final LongList EMPTY = new LongList(new long[0]);
+	
+	private final long[] values;
+	
+	private LongList(long[] values) {
+		this.values = values;
+	}
+	
+	public static LongList of(long... values) {
+		return new LongList(values.clone());
+	}
+	
+	/**
+	 * Wraps the array without copying
+	 */
+	
+	public static LongList wrap(long[] values) {
+		return new LongList(values);
+	}
+	
+	public long getLong(int index) {
+		return values[index];
+	}
+	
+	public long[] toLongArray() {
+		return values.clone();
+	}
+	
+	@Override
+	public Long get(int index) {
+		return values[index];
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+	
+}
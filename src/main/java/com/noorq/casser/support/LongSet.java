@@ -0,0 +1,107 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.support;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only set of long values backed by a sorted array without duplicates.
+ * 
+ * Can be used as the type of set&lt;bigint&gt; property, values are decoded 
+ * directly from the serialized collection.
+ */
+
+public final class LongSet extends AbstractSet<Long> {
+
+	public static final LongSet EMPTY = new LongSet(new long[0]);
+	
+	private final long[] values;
+	
+	private LongSet(long[] values) {
+		this.values = values;
+	}
+	
+	public static LongSet of(long... values) {
+		
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		
+		int size = 0;
+		for (int i = 0; i != sorted.length; ++i) {
+			if (size == 0 || sorted[size - 1] != sorted[i]) {
+				sorted[size++] = sorted[i];
+			}
+		}
+		
+		return new LongSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+	}
+	
+	/**
+	 * Wraps the array without copying, the array must be sorted and must not have duplicates
+	 */
+	
+	public static LongSet wrap(long[] sortedValues) {
+		return new LongSet(sortedValues);
+	}
+	
+	public boolean contains(long value) {
+		return Arrays.binarySearch(values, value) >= 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof Long && contains(((Long) o).longValue());
+	}
+	
+	public long getLong(int index) {
+		return values[index];
+	}
+	
+	public long[] toLongArray() {
+		return values.clone();
+	}
+	
+	@Override
+	public int size() {
+		return values.length;
+	}
+	
+	@Override
+	public Iterator<Long> iterator() {
+		return new Iterator<Long>() {
+
+			int index = 0;
+			
+			@Override
+			public boolean hasNext() {
+				return index < values.length;
+			}
+
+			@Override
+			public Long next() {
+				if (index >= values.length) {
+					throw new NoSuchElementException();
+				}
+				return values[index++];
+			}
+			
+		};
+	}
+	
+}
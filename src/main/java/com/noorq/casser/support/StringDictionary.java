@@ -0,0 +1,117 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.support;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded concurrent dictionary of strings keyed by their serialized bytes.
+ * 
+ * Every slot keeps one entry, a value that maps to an occupied slot replaces it.
+ */
+
+public final class StringDictionary {
+
+	private static final int MAX_CAPACITY = 1 << 20;
+	
+	private final AtomicReferenceArray<Entry> entries;
+	private final int mask;
+	
+	public StringDictionary(int capacity) {
+		
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive " + capacity);
+		}
+		
+		int size = Integer.highestOneBit(Math.min(capacity, MAX_CAPACITY) - 1) << 1;
+		size = Math.max(size, 1);
+		
+		this.entries = new AtomicReferenceArray<Entry>(size);
+		this.mask = size - 1;
+	}
+	
+	public int capacity() {
+		return entries.length();
+	}
+	
+	/**
+	 * Returns the canonical string for the remaining bytes of the buffer, 
+	 * the buffer position is not changed
+	 */
+	
+	public String intern(ByteBuffer bytes, Charset charset) {
+		
+		if (bytes == null) {
+			return null;
+		}
+		
+		int hash = hash(bytes);
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		
+		Entry entry = entries.get(slot);
+		
+		if (entry != null && entry.hash == hash && entry.matches(bytes)) {
+			return entry.value;
+		}
+		
+		byte[] data = new byte[bytes.remaining()];
+		bytes.duplicate().get(data);
+		
+		String value = new String(data, charset);
+		entries.set(slot, new Entry(hash, data, value));
+		
+		return value;
+	}
+	
+	static int hash(ByteBuffer bytes) {
+		int h = 1;
+		for (int i = bytes.position(), limit = bytes.limit(); i != limit; ++i) {
+			h = 31 * h + bytes.get(i);
+		}
+		return h;
+	}
+	
+	static final class Entry {
+		
+		final int hash;
+		final byte[] data;
+		final String value;
+		
+		Entry(int hash, byte[] data, String value) {
+			this.hash = hash;
+			this.data = data;
+			this.value = value;
+		}
+		
+		boolean matches(ByteBuffer bytes) {
+			
+			if (bytes.remaining() != data.length) {
+				return false;
+			}
+			
+			for (int i = 0, p = bytes.position(); i != data.length; ++i, ++p) {
+				if (data[i] != bytes.get(p)) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
+	
+}
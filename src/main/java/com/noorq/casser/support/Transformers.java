@@ -16,26 +16,47 @@
 package com.noorq.casser.support;
 
 import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
+/**
+ * The transform methods return read-only views for the read path, they apply the function 
+ * on the first access and memoize the result, so repeated traversals do not convert 
+ * the same element twice. The input collection is not copied, views follow its iteration 
+ * order. Set elements and map keys are all converted on the first access, so equal 
+ * outputs collapse into one element or key. Copy the view before modifying it.
+ * 
+ * The copy methods convert every element at once into a new HashSet, HashMap or ArrayList 
+ * for the write path, where the input belongs to the caller.
+ * 
+ * Results are published safely. Concurrent first accesses may apply the function more 
+ * than once for the same element, all of them see the first result.
+ */
 
 public final class Transformers {
 
+	private static final Object NULL = new Object();
+	
 	private Transformers() {
 	}
 
 	public static <I, O> Set<O> transformSet(Set<I> inputSet, Function<I, O> func) {
-		Set<O> set = Sets.newHashSet();
-		for (I in : inputSet) {
-			set.add(func.apply(in));
-		}
-		return set;
+		return new TransformedImmutableSet<I, O>(inputSet, func);
 	}
 	
 	public static <I, O> List<O> transformList(List<I> inputList, Function<I, O> func) {
@@ -43,19 +64,43 @@ public final class Transformers {
 	}
 	
 	public static <I, O, V> Map<O, V> transformMapKey(Map<I, V> inputMap, Function<I, O> func) {
-		Map<O, V> map = Maps.newHashMap();
-		for (Map.Entry<I, V> e : inputMap.entrySet()) {
-			map.put(func.apply(e.getKey()), e.getValue());
-		}
-		return map;
+		return new TransformedImmutableMap<I, V, O, V>(inputMap, func, Function.identity());
 	}
 
 	public static <I, O, K> Map<K, O> transformMapValue(Map<K, I> inputMap, Function<I, O> func) {
-		return Maps.transformValues(inputMap, func::apply);
+		return new TransformedValuesMap<K, I, O>(inputMap, func);
 	}
 	
 	public static <X, Y, K, V> Map<X, Y> transformMap(Map<K, V> inputMap, Function<K, X> funcKey, Function<V, Y> funcValue) {
-		Map<X, Y> map = Maps.newHashMap();
+		return new TransformedImmutableMap<K, V, X, Y>(inputMap, funcKey, funcValue);
+	}
+	
+	public static <I, O> Set<O> copySet(Set<I> inputSet, Function<I, O> func) {
+		Set<O> set = new HashSet<O>(inputSet.size() * 2);
+		for (I in : inputSet) {
+			set.add(func.apply(in));
+		}
+		return set;
+	}
+	
+	public static <I, O> List<O> copyList(List<I> inputList, Function<I, O> func) {
+		List<O> list = new ArrayList<O>(inputList.size());
+		for (I in : inputList) {
+			list.add(func.apply(in));
+		}
+		return list;
+	}
+	
+	public static <I, O, V> Map<O, V> copyMapKey(Map<I, V> inputMap, Function<I, O> func) {
+		return copyMap(inputMap, func, Function.identity());
+	}
+
+	public static <I, O, K> Map<K, O> copyMapValue(Map<K, I> inputMap, Function<I, O> func) {
+		return copyMap(inputMap, Function.identity(), func);
+	}
+	
+	public static <X, Y, K, V> Map<X, Y> copyMap(Map<K, V> inputMap, Function<K, X> funcKey, Function<V, Y> funcValue) {
+		Map<X, Y> map = new HashMap<X, Y>(inputMap.size() * 2);
 		for (Map.Entry<K, V> e : inputMap.entrySet()) {
 			map.put(funcKey.apply(e.getKey()), 
 					funcValue.apply(e.getValue()));
@@ -63,26 +108,327 @@ public final class Transformers {
 		return map;
 	}
 	
-	static final class TransformedImmutableList<I, O> extends AbstractList<O> implements List<O> {
+	static Object mask(Object value) {
+		return value != null ? value : NULL;
+	}
+	
+	@SuppressWarnings("unchecked")
+	static <O> O unmask(Object value) {
+		return value != NULL ? (O) value : null;
+	}
+	
+	/**
+	 * Results of the function memoized by the map key of the input value
+	 */
+	
+	static final class Memo<I, O> {
+		
+		final Function<I, O> func;
+		final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<Object, Object>();
+		
+		Memo(Function<I, O> func) {
+			this.func = Objects.requireNonNull(func, "func is null");
+		}
+		
+		O transform(Object key, I input) {
+			
+			Object memoKey = mask(key);
+			Object value = values.get(memoKey);
+			
+			if (value == null) {
+				value = mask(func.apply(input));
+				Object existing = values.putIfAbsent(memoKey, value);
+				if (existing != null) {
+					value = existing;
+				}
+			}
+			
+			return unmask(value);
+		}
+		
+	}
+	
+	static final class TransformedImmutableList<I, O> extends AbstractList<O> implements List<O>, RandomAccess {
 	
 		final List<I> inputList;
 		final Function<I, O> func;
+		final AtomicReferenceArray<Object> cache;
 		
 		TransformedImmutableList(List<I> inputList, Function<I, O> func) {
 			this.inputList = Objects.requireNonNull(inputList, "inputList is null");
 			this.func = Objects.requireNonNull(func, "func is null");
+			this.cache = new AtomicReferenceArray<Object>(inputList.size());
 		}
 
 		@Override
 		public O get(int index) {
-			return func.apply(inputList.get(index));
+			
+			Object value = cache.get(index);
+			
+			if (value == null) {
+				value = mask(func.apply(inputList.get(index)));
+				if (!cache.compareAndSet(index, null, value)) {
+					value = cache.get(index);
+				}
+			}
+			
+			return unmask(value);
 		}
 
 		@Override
 		public int size() {
-			return inputList.size();
+			return cache.length();
+		}
+
+	}
+	
+	static final class TransformedImmutableSet<I, O> extends AbstractSet<O> implements Set<O> {
+		
+		final Set<I> inputSet;
+		final Function<I, O> func;
+		
+		volatile Set<O> outputSet;
+		
+		TransformedImmutableSet(Set<I> inputSet, Function<I, O> func) {
+			this.inputSet = Objects.requireNonNull(inputSet, "inputSet is null");
+			this.func = Objects.requireNonNull(func, "func is null");
+		}
+		
+		/**
+		 * Distinct outputs in the input order, transforms all elements on the first call
+		 */
+		
+		Set<O> outputSet() {
+			
+			Set<O> set = outputSet;
+			
+			if (set == null) {
+				set = new LinkedHashSet<O>(inputSet.size() * 2);
+				for (I input : inputSet) {
+					set.add(func.apply(input));
+				}
+				outputSet = set;
+			}
+			
+			return set;
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			return outputSet().contains(o);
 		}
 
+		@Override
+		public Iterator<O> iterator() {
+			
+			Iterator<O> i = outputSet().iterator();
+			
+			return new Iterator<O>() {
+
+				@Override
+				public boolean hasNext() {
+					return i.hasNext();
+				}
+
+				@Override
+				public O next() {
+					return i.next();
+				}
+				
+			};
+		}
+
+		@Override
+		public int size() {
+			return outputSet().size();
+		}
+		
+		@Override
+		public boolean isEmpty() {
+			return inputSet.isEmpty();
+		}
+		
+	}
+	
+	static final class TransformedImmutableMap<K, V, X, Y> extends AbstractMap<X, Y> implements Map<X, Y> {
+		
+		final Map<K, V> inputMap;
+		final Function<K, X> funcKey;
+		final Memo<V, Y> values;
+		
+		volatile Map<X, K> lookup;
+		
+		Set<Map.Entry<X, Y>> entrySet;
+		
+		TransformedImmutableMap(Map<K, V> inputMap, Function<K, X> funcKey, Function<V, Y> funcValue) {
+			this.inputMap = Objects.requireNonNull(inputMap, "inputMap is null");
+			this.funcKey = Objects.requireNonNull(funcKey, "funcKey is null");
+			this.values = new Memo<V, Y>(funcValue);
+		}
+		
+		/**
+		 * Input key of every distinct transformed key, transforms all keys on the first call
+		 */
+		
+		Map<X, K> lookup() {
+			
+			Map<X, K> map = lookup;
+			
+			if (map == null) {
+				map = new LinkedHashMap<X, K>(inputMap.size() * 2);
+				for (K inputKey : inputMap.keySet()) {
+					map.put(funcKey.apply(inputKey), inputKey);
+				}
+				lookup = map;
+			}
+			
+			return map;
+		}
+		
+		Object inputKey(Object key) {
+			Map<X, K> map = lookup();
+			K inputKey = map.get(key);
+			return inputKey != null || map.containsKey(key) ? mask(inputKey) : null;
+		}
+		
+		@Override
+		public Y get(Object key) {
+			Object inputKey = inputKey(key);
+			if (inputKey == null) {
+				return null;
+			}
+			K k = unmask(inputKey);
+			return values.transform(k, inputMap.get(k));
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return inputKey(key) != null;
+		}
+
+		@Override
+		public int size() {
+			return lookup().size();
+		}
+		
+		@Override
+		public boolean isEmpty() {
+			return inputMap.isEmpty();
+		}
+
+		@Override
+		public Set<Map.Entry<X, Y>> entrySet() {
+			
+			if (entrySet == null) {
+				entrySet = new AbstractSet<Map.Entry<X, Y>>() {
+
+					@Override
+					public Iterator<Map.Entry<X, Y>> iterator() {
+						
+						Iterator<Map.Entry<X, K>> i = lookup().entrySet().iterator();
+						
+						return new Iterator<Map.Entry<X, Y>>() {
+
+							@Override
+							public boolean hasNext() {
+								return i.hasNext();
+							}
+
+							@Override
+							public Map.Entry<X, Y> next() {
+								Map.Entry<X, K> e = i.next();
+								return new AbstractMap.SimpleImmutableEntry<X, Y>(
+										e.getKey(), 
+										values.transform(e.getValue(), inputMap.get(e.getValue())));
+							}
+							
+						};
+					}
+
+					@Override
+					public int size() {
+						return lookup().size();
+					}
+					
+				};
+			}
+			
+			return entrySet;
+		}
+		
+	}
+	
+	static final class TransformedValuesMap<K, I, O> extends AbstractMap<K, O> implements Map<K, O> {
+
+		final Map<K, I> inputMap;
+		final Memo<I, O> values;
+		
+		Set<Map.Entry<K, O>> entrySet;
+		
+		TransformedValuesMap(Map<K, I> inputMap, Function<I, O> func) {
+			this.inputMap = Objects.requireNonNull(inputMap, "inputMap is null");
+			this.values = new Memo<I, O>(func);
+		}
+		
+		@Override
+		public O get(Object key) {
+			
+			I inputValue = inputMap.get(key);
+			
+			if (inputValue == null && !inputMap.containsKey(key)) {
+				return null;
+			}
+			
+			return values.transform(key, inputValue);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return inputMap.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return inputMap.size();
+		}
+
+		@Override
+		public Set<Map.Entry<K, O>> entrySet() {
+			
+			if (entrySet == null) {
+				entrySet = new AbstractSet<Map.Entry<K, O>>() {
+
+					@Override
+					public Iterator<Map.Entry<K, O>> iterator() {
+						
+						Iterator<Map.Entry<K, I>> i = inputMap.entrySet().iterator();
+						
+						return new Iterator<Map.Entry<K, O>>() {
+
+							@Override
+							public boolean hasNext() {
+								return i.hasNext();
+							}
+
+							@Override
+							public Map.Entry<K, O> next() {
+								Map.Entry<K, I> e = i.next();
+								return new AbstractMap.SimpleImmutableEntry<K, O>(e.getKey(), values.transform(e.getKey(), e.getValue()));
+							}
+							
+						};
+					}
+
+					@Override
+					public int size() {
+						return inputMap.size();
+					}
+					
+				};
+			}
+			
+			return entrySet;
+		}
 		
 	}
 	
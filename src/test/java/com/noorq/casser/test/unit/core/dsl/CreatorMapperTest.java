@@ -0,0 +1,115 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.dsl;
+
+import java.util.Date;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.reflect.CreatorMapper;
+import com.noorq.casser.mapping.annotation.Creator;
+import com.noorq.casser.mapping.annotation.Param;
+import com.noorq.casser.support.CasserMappingException;
+import com.noorq.casser.test.unit.mapping.TestRows;
+
+public class CreatorMapperTest {
+
+	public static final class AccountView {
+		
+		final long id;
+		final boolean active;
+		
+		public AccountView(@Param("id") long id, @Param("active") boolean active) {
+			this.id = id;
+			this.active = active;
+		}
+		
+	}
+
+	public static final class AccountTime {
+		
+		final Long id;
+		final Date time;
+		
+		private AccountTime(Long id, Date time) {
+			this.id = id;
+			this.time = time;
+		}
+		
+		@Creator
+		public static AccountTime of(@Param("time") Date time, @Param("id") Long id) {
+			return new AccountTime(id, time);
+		}
+		
+	}
+	
+	public static final class Unknown {
+		
+		public Unknown(@Param("name") String name) {
+		}
+		
+	}
+	
+	@Test
+	public void testConstructor() throws Exception {
+		
+		CreatorMapper<AccountView> mapper = new CreatorMapper<AccountView>(Casser.entity(Account.class), AccountView.class, null);
+		
+		Assert.assertEquals(2, mapper.getProperties().size());
+		Assert.assertEquals("id", mapper.getProperties().get(0).getPropertyName());
+		Assert.assertEquals("active", mapper.getProperties().get(1).getPropertyName());
+		
+		TestRows rows = new TestRows()
+				.column("id", DataType.bigint())
+				.column("is_active", DataType.cboolean());
+		
+		AccountView view = mapper.apply(rows.row(123L, true));
+		Assert.assertEquals(123L, view.id);
+		Assert.assertTrue(view.active);
+		
+		view = mapper.apply(rows.row(null, null));
+		Assert.assertEquals(0L, view.id);
+		Assert.assertFalse(view.active);
+		
+	}
+	
+	@Test
+	public void testFactoryMethod() throws Exception {
+		
+		CreatorMapper<AccountTime> mapper = new CreatorMapper<AccountTime>(Casser.entity(Account.class), AccountTime.class, null);
+		
+		Assert.assertEquals("time", mapper.getProperties().get(0).getPropertyName());
+		
+		TestRows rows = new TestRows()
+				.column("time", DataType.timestamp())
+				.column("id", DataType.bigint());
+		
+		Date time = new Date();
+		AccountTime value = mapper.apply(rows.row(time, 5L));
+		Assert.assertEquals(Long.valueOf(5L), value.id);
+		Assert.assertEquals(time, value.time);
+		
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testUnknownProperty() throws Exception {
+		new CreatorMapper<Unknown>(Casser.entity(Account.class), Unknown.class, null);
+	}
+	
+}
@@ -0,0 +1,137 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.dsl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.reflect.GeneratedMapperInstantiator;
+import com.noorq.casser.core.reflect.MapExportable;
+import com.noorq.casser.mapping.value.PrimitiveValueSource;
+import com.noorq.casser.support.CasserException;
+
+public class GeneratedMapperTest {
+
+	private static <E> E map(Class<E> iface, Map<String, Object> src) {
+		return GeneratedMapperInstantiator.INSTANCE.instantiate(iface, src, iface.getClassLoader());
+	}
+	
+	@Test
+	public void testWrap() throws Exception {
+		
+		Map<String, Object> map = new HashMap<String, Object>();
+	
+		map.put("id", 123L);
+		map.put("active", Boolean.TRUE);
+		map.put("unknownField", "he-he");
+		
+		Account account = map(Account.class, map);
+		
+		Assert.assertEquals(Long.valueOf(123L), account.id());
+		Assert.assertTrue(account.active());
+		Assert.assertNull(account.time());
+		
+		Assert.assertEquals(map, ((MapExportable) account).toMap());
+		Assert.assertEquals("Account: " + map, account.toString());
+		
+		Assert.assertEquals(account, account);
+		Assert.assertNotEquals(account, map(Account.class, map));
+		
+	}
+	
+	@Test
+	public void testPrimitive() throws Exception {
+		
+		Map<String, Object> map = new HashMap<String, Object>();
+		
+		map.put("id", 123L);
+		
+		Account account = map(Account.class, map);
+		
+		Assert.assertFalse(account.active());
+				
+	}
+	
+	@SuppressWarnings("serial")
+	static final class PrimitiveMap extends HashMap<String, Object> implements PrimitiveValueSource {
+
+		int reads = 0;
+		
+		@Override
+		public boolean getBoolean(String name) {
+			reads++;
+			return "active".equals(name);
+		}
+
+		@Override
+		public int getInt(String name) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public long getLong(String name) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float getFloat(String name) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double getDouble(String name) {
+			throw new UnsupportedOperationException();
+		}
+		
+	}
+	
+	@Test
+	public void testPrimitiveSource() throws Exception {
+		
+		PrimitiveMap map = new PrimitiveMap();
+		map.put("id", 123L);
+		
+		Account account = map(Account.class, map);
+		
+		Assert.assertTrue(account.active());
+		Assert.assertTrue(account.active());
+		Assert.assertEquals(Long.valueOf(123L), account.id());
+		Assert.assertEquals(1, map.reads);
+		
+	}
+	
+	@Test(expected=UnsupportedOperationException.class)
+	public void testReadOnlyMap() throws Exception {
+		
+		Account account = map(Account.class, new HashMap<String, Object>());
+		
+		((MapExportable) account).toMap().put("id", 1L);
+		
+	}
+	
+	@Test(expected=CasserException.class)
+	public void testWrongMethods() throws Exception {
+		
+		WrongAccount wrongAccount = map(WrongAccount.class, new HashMap<String, Object>());
+		
+		wrongAccount.id();
+
+	}
+	
+}
@@ -0,0 +1,146 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.Operator;
+import com.noorq.casser.core.operation.SelectOperation;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.support.CasserMappingException;
+import com.noorq.casser.test.unit.mapping.TestRows;
+
+public class DistinctTest {
+
+	private final Device device = Casser.dsl(Device.class);
+	private final CasserEntity entity = Casser.entity(Device.class);
+	
+	@Test
+	public void testDistinctPartitions() throws Exception {
+		
+		String cql = new SelectOperation<Device>(new TestSessionOperations(), entity)
+				.distinctPartitions()
+				.cql();
+		
+		Assert.assertEquals("SELECT DISTINCT tenant,serial,model FROM device;", cql);
+	}
+
+	@Test
+	public void testDistinctColumns() throws Exception {
+		
+		String cql = new SelectOperation<Object>(new TestSessionOperations(), r -> r)
+				.column(device::tenant)
+				.column(device::serial)
+				.distinct()
+				.cql();
+		
+		Assert.assertEquals("SELECT DISTINCT tenant,serial FROM device;", cql);
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testRegularColumn() throws Exception {
+		
+		new SelectOperation<Object>(new TestSessionOperations(), r -> r)
+				.column(device::tenant)
+				.column(device::serial)
+				.column(device::reading)
+				.distinct()
+				.cql();
+	}
+
+	@Test(expected = CasserMappingException.class)
+	public void testMissingPartitionKey() throws Exception {
+		
+		new SelectOperation<Object>(new TestSessionOperations(), r -> r)
+				.column(device::tenant)
+				.column(device::model)
+				.distinct()
+				.cql();
+	}
+	
+	@Test
+	public void testDistinctPartitionsMapped() throws Exception {
+		
+		TestRows rows = new TestRows()
+				.column("tenant", DataType.text())
+				.column("serial", DataType.text())
+				.column("model", DataType.text());
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> resultSet(
+				rows.row("acme", "s1", "m1"), 
+				rows.row("acme", "s2", "m2")));
+		
+		List<Device> devices = new SelectOperation<Device>(ops, entity, Device.class)
+				.distinctPartitions()
+				.sync()
+				.collect(Collectors.toList());
+		
+		Assert.assertEquals(2, devices.size());
+		Assert.assertEquals("acme", devices.get(0).tenant());
+		Assert.assertEquals("s2", devices.get(1).serial());
+		Assert.assertEquals("m2", devices.get(1).model());
+		Assert.assertNull(devices.get(0).time());
+		Assert.assertEquals(0.0, devices.get(0).reading(), 0.0);
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testDistinctPartitionsCustomMapper() throws Exception {
+		
+		new SelectOperation<Object>(new TestSessionOperations(), entity, r -> r)
+				.distinctPartitions();
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testClusteringFilter() throws Exception {
+		
+		new SelectOperation<Device>(new TestSessionOperations(), entity)
+				.distinctPartitions()
+				.where(device::time, Operator.GT, new Date())
+				.cql();
+	}
+	
+	private static ResultSet resultSet(Row... rows) {
+		
+		Iterator<Row> iterator = Arrays.asList(rows).iterator();
+		
+		return (ResultSet) Proxy.newProxyInstance(DistinctTest.class.getClassLoader(), 
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+			
+			switch(method.getName()) {
+			case "iterator":
+				return iterator;
+			case "isFullyFetched":
+				return true;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+			
+		});
+	}
+	
+}
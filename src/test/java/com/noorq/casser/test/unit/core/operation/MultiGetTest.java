@@ -0,0 +1,94 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.Query;
+import com.noorq.casser.core.operation.MultiGetResult;
+import com.noorq.casser.core.operation.SelectOperation;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.support.CasserMappingException;
+
+public class MultiGetTest {
+
+	private final Timeline timeline = Casser.dsl(Timeline.class);
+	private final Device device = Casser.dsl(Device.class);
+	
+	@Test
+	public void testStatement() throws Exception {
+		
+		String cql = new SelectOperation<Timeline>(new TestSessionOperations(), Casser.entity(Timeline.class))
+				.where(timeline::seq, Query.gt(100))
+				.getAll(timeline::userId, Arrays.asList("a", "b"))
+				.buildStatement()
+				.toString();
+		
+		Assert.assertEquals("SELECT user_id,timestamp,seq,text FROM timeline WHERE seq>100 AND user_id=?;", cql);
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testClusteringKey() throws Exception {
+		
+		new SelectOperation<Timeline>(new TestSessionOperations(), Casser.entity(Timeline.class))
+				.getAll(timeline::seq, Arrays.asList(1))
+				.buildStatement();
+	}
+
+	@Test(expected = CasserMappingException.class)
+	public void testCompositePartitionKey() throws Exception {
+		
+		CasserEntity entity = Casser.entity(Device.class);
+		
+		new SelectOperation<Device>(new TestSessionOperations(), entity)
+				.getAll(device::tenant, Arrays.asList("t"))
+				.buildStatement();
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testPartitionKeyFilter() throws Exception {
+		
+		new SelectOperation<Timeline>(new TestSessionOperations(), Casser.entity(Timeline.class))
+				.where(timeline::userId, Query.eq("a"))
+				.getAll(timeline::userId, Arrays.asList("a"))
+				.buildStatement();
+	}
+	
+	@Test
+	public void testResult() throws Exception {
+		
+		Map<String, List<String>> results = new LinkedHashMap<String, List<String>>();
+		results.put("b", Arrays.asList("b1", "b2"));
+		results.put("a", Collections.emptyList());
+		
+		Map<String, Throwable> failures = Collections.singletonMap("c", new RuntimeException());
+		
+		MultiGetResult<String, String> result = new MultiGetResult<String, String>(results, failures);
+		
+		Assert.assertEquals(Arrays.asList("b", "a"), Arrays.asList(result.getResults().keySet().toArray()));
+		Assert.assertEquals(Arrays.asList("b1", "b2"), result.get("b"));
+		Assert.assertTrue(result.hasFailures());
+	}
+	
+}
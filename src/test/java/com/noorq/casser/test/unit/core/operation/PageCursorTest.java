@@ -0,0 +1,70 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.operation.PageCursor;
+import com.noorq.casser.support.CasserException;
+
+public class PageCursorTest {
+
+	private final byte[] state = new byte[] { 0, 7, -1, 42, -128, 3 };
+	
+	@Test
+	public void testString() throws Exception {
+		
+		PageCursor cursor = PageCursor.fromBytes(state);
+		String str = cursor.toString();
+		
+		Assert.assertFalse(str.contains("/") || str.contains("+") || str.contains("="));
+		Assert.assertEquals(cursor, PageCursor.fromString(str));
+		Assert.assertArrayEquals(state, PageCursor.fromString(str).toBytes());
+	}
+
+	@Test
+	public void testSerializable() throws Exception {
+		
+		PageCursor cursor = PageCursor.fromBytes(state);
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+			oos.writeObject(cursor);
+		}
+		
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			Assert.assertEquals(cursor, ois.readObject());
+		}
+	}
+	
+	@Test
+	public void testInvalid() throws Exception {
+		try {
+			PageCursor.fromString("not a cursor!");
+			Assert.fail();
+		}
+		catch(CasserException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+	}
+	
+}
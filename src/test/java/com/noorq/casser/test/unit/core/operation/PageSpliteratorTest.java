@@ -0,0 +1,121 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.operation.FetchCounters;
+import com.noorq.casser.core.operation.PageSpliterator;
+
+public class PageSpliteratorTest {
+
+	@Test
+	public void testSplitByPage() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(3, 2);
+		
+		Spliterator<Row> spliterator = new PageSpliterator(paged.resultSet);
+		
+		Assert.assertEquals(3, spliterator.estimateSize());
+		
+		Spliterator<Row> first = spliterator.trySplit();
+		Assert.assertEquals(3, first.estimateSize());
+		Assert.assertEquals(0, spliterator.estimateSize());
+		
+		Assert.assertNull(spliterator.trySplit());
+		Assert.assertEquals(0, paged.fetchRequests);
+		
+		Assert.assertTrue(first.tryAdvance(r -> Assert.assertEquals(0, r.getInt(0))));
+		Assert.assertTrue(spliterator.tryAdvance(r -> Assert.assertEquals(3, r.getInt(0))));
+	}
+	
+	@Test
+	public void testParallelOrder() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(50, 20);
+		
+		List<Integer> values = StreamSupport.stream(new PageSpliterator(paged.resultSet), true)
+				.map(r -> r.getInt(0) * 2)
+				.collect(Collectors.toList());
+		
+		List<Integer> expected = IntStream.range(0, 1000).map(i -> i * 2).boxed().collect(Collectors.toList());
+		
+		Assert.assertEquals(expected, values);
+		Assert.assertEquals(0, paged.fetchRequests);
+	}
+	
+	@Test
+	public void testSequential() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(4, 3);
+		
+		Assert.assertEquals(12, StreamSupport.stream(new PageSpliterator(paged.resultSet), false).count());
+		Assert.assertEquals(0, paged.fetchRequests);
+	}
+	
+	@Test
+	public void testPrefetch() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 5);
+		paged.completeFetches = true;
+		
+		FetchCounters counters = new FetchCounters();
+		
+		Assert.assertEquals(50, StreamSupport.stream(new PageSpliterator(paged.resultSet, 3, counters), false).count());
+		
+		Assert.assertEquals(50, counters.getRows());
+		Assert.assertEquals(4, counters.getPrefetches());
+		Assert.assertEquals(0, counters.getBlockingFetches());
+	}
+
+	@Test
+	public void testBlockingFetches() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 5);
+		
+		FetchCounters counters = new FetchCounters();
+		
+		Assert.assertEquals(50, StreamSupport.stream(new PageSpliterator(paged.resultSet, 0, counters), false).count());
+		
+		Assert.assertEquals(50, counters.getRows());
+		Assert.assertEquals(0, counters.getPrefetches());
+		Assert.assertEquals(4, counters.getBlockingFetches());
+	}
+	
+	@Test
+	public void testSplitRowsCounted() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(50, 20);
+		
+		FetchCounters counters = new FetchCounters();
+		
+		List<Integer> values = StreamSupport.stream(new PageSpliterator(paged.resultSet, 0, counters), true)
+				.map(r -> r.getInt(0))
+				.collect(Collectors.toList());
+		
+		Assert.assertEquals(1000, values.size());
+		Assert.assertEquals(1000, counters.getRows());
+	}
+	
+}
@@ -0,0 +1,103 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+import com.noorq.casser.test.unit.mapping.TestRows;
+
+/**
+ * In memory ResultSet that returns rows page by page
+ */
+
+public final class PagedResultSet {
+	
+	private final Deque<Row> current = new ArrayDeque<Row>();
+	private final Deque<List<Row>> pages = new ArrayDeque<List<Row>>();
+	public final ResultSet resultSet;
+	
+	public int fetchRequests;
+	public boolean completeFetches;
+	
+	public PagedResultSet(int pageSize, int pageCount) {
+		
+		TestRows rows = new TestRows().column("value", DataType.cint());
+		
+		for (int p = 0; p != pageCount; ++p) {
+			List<Row> page = new ArrayList<Row>();
+			for (int i = 0; i != pageSize; ++i) {
+				page.add(rows.row(p * pageSize + i));
+			}
+			pages.add(page);
+		}
+		
+		this.resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), 
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+			
+			switch(method.getName()) {
+			case "iterator":
+				return new Iterator<Row>() {
+
+					@Override
+					public boolean hasNext() {
+						return !isExhausted();
+					}
+
+					@Override
+					public Row next() {
+						isExhausted();
+						return current.poll();
+					}
+					
+				};
+			case "getAvailableWithoutFetching":
+				return current.size();
+			case "isExhausted":
+				return isExhausted();
+			case "isFullyFetched":
+				return pages.isEmpty();
+			case "fetchMoreResults":
+				fetchRequests++;
+				if (completeFetches && !pages.isEmpty()) {
+					current.addAll(pages.poll());
+				}
+				return Futures.immediateFuture(null);
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+			
+		});
+		
+		current.addAll(pages.poll());
+	}
+	
+	private boolean isExhausted() {
+		if (current.isEmpty() && !pages.isEmpty()) {
+			current.addAll(pages.poll());
+		}
+		return current.isEmpty();
+	}
+	
+}
@@ -0,0 +1,202 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.noorq.casser.core.operation.PageSpliterator;
+import com.noorq.casser.core.operation.ResultSetPublisher;
+
+public class ResultSetPublisherTest {
+
+	@Test
+	public void testDemand() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 3);
+		paged.completeFetches = true;
+		
+		QueueExecutor executor = new QueueExecutor();
+		
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher(paged.resultSet, executor).subscribe(subscriber);
+		executor.runAll();
+		
+		Assert.assertTrue(subscriber.values.isEmpty());
+		
+		subscriber.subscription.request(10);
+		executor.runAll();
+		Assert.assertEquals(10, subscriber.values.size());
+		Assert.assertEquals(0, paged.fetchRequests);
+		
+		subscriber.subscription.request(5);
+		Assert.assertEquals(10, subscriber.values.size());
+		executor.runAll();
+		Assert.assertEquals(15, subscriber.values.size());
+		Assert.assertEquals(1, paged.fetchRequests);
+		
+		subscriber.subscription.request(Long.MAX_VALUE);
+		executor.runAll();
+		Assert.assertEquals(30, subscriber.values.size());
+		Assert.assertEquals(2, paged.fetchRequests);
+		Assert.assertTrue(subscriber.completed);
+		
+		for (int i = 0; i != 30; ++i) {
+			Assert.assertEquals(Integer.valueOf(i), subscriber.values.get(i));
+		}
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 3);
+		paged.completeFetches = true;
+		
+		QueueExecutor executor = new QueueExecutor();
+		
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher(paged.resultSet, executor).subscribe(subscriber);
+		executor.runAll();
+		
+		subscriber.subscription.request(3);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(3);
+		executor.runAll();
+		
+		Assert.assertEquals(3, subscriber.values.size());
+		Assert.assertFalse(subscriber.completed);
+	}
+	
+	@Test
+	public void testInvalidRequest() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 1);
+		
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher(paged.resultSet, new QueueExecutor()).subscribe(subscriber);
+		
+		subscriber.subscription.request(0);
+		
+		Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+	}
+
+	@Test
+	public void testQueryFailure() throws Exception {
+		
+		QueueExecutor executor = new QueueExecutor();
+		
+		TestSubscriber subscriber = new TestSubscriber();
+		
+		new ResultSetPublisher<Integer>(
+				() -> Futures.immediateFailedFuture(new IllegalStateException("unavailable")), 
+				rs -> null, 
+				executor).subscribe(subscriber);
+		executor.runAll();
+		
+		Assert.assertTrue(subscriber.error instanceof IllegalStateException);
+	}
+	
+	@Test
+	public void testSameThreadExecutor() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 3);
+		paged.completeFetches = true;
+		
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher(paged.resultSet, MoreExecutors.sameThreadExecutor()).subscribe(subscriber);
+		
+		subscriber.subscription.request(Long.MAX_VALUE);
+		
+		Assert.assertEquals(30, subscriber.values.size());
+		Assert.assertTrue(subscriber.completed);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void testExecutorRequired() throws Exception {
+		
+		PagedResultSet paged = new PagedResultSet(10, 1);
+		
+		publisher(paged.resultSet, null);
+	}
+	
+	private static ResultSetPublisher<Integer> publisher(ResultSet resultSet, Executor executor) {
+		return new ResultSetPublisher<Integer>(
+				() -> Futures.immediateFuture(resultSet), 
+				rs -> StreamSupport.stream(new PageSpliterator(rs), false).map(r -> r.getInt(0)), 
+				executor);
+	}
+	
+	static final class QueueExecutor implements Executor {
+
+		final Queue<Runnable> tasks = new ArrayDeque<Runnable>();
+		
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+		
+		void runAll() {
+			Runnable task;
+			while ((task = tasks.poll()) != null) {
+				task.run();
+			}
+		}
+		
+	}
+	
+	static final class TestSubscriber implements Subscriber<Integer> {
+
+		final List<Integer> values = new ArrayList<Integer>();
+		
+		Subscription subscription;
+		Throwable error;
+		boolean completed;
+		
+		@Override
+		public void onSubscribe(Subscription s) {
+			this.subscription = s;
+		}
+
+		@Override
+		public void onNext(Integer t) {
+			values.add(t);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			this.error = t;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+		
+	}
+	
+}
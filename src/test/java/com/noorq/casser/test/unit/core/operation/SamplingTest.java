@@ -0,0 +1,81 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.operation.CountEstimate;
+import com.noorq.casser.core.operation.CountOperation;
+import com.noorq.casser.core.operation.SelectOperation;
+import com.noorq.casser.mapping.CasserEntity;
+
+public class SamplingTest {
+
+	private final CasserEntity entity = Casser.entity(Timeline.class);
+	
+	@Test
+	public void testEstimateInterval() throws Exception {
+		
+		CountEstimate estimate = CountEstimate.of(new long[] { 8, 12, 10, 10 }, 40, 0.95);
+		
+		Assert.assertEquals(400L, estimate.getEstimate());
+		Assert.assertEquals(40L, estimate.getSampledCount());
+		Assert.assertTrue(estimate.getLower() < 400L && estimate.getLower() > 300L);
+		Assert.assertTrue(estimate.getUpper() > 400L && estimate.getUpper() < 500L);
+		
+		CountEstimate exact = CountEstimate.of(new long[] { 1, 2 }, 2, 0.95);
+		Assert.assertEquals(3L, exact.getLower());
+		Assert.assertEquals(3L, exact.getUpper());
+	}
+	
+	@Test
+	public void testEstimate() throws Exception {
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> TokenCountTest.countResult(10L));
+		
+		CountEstimate estimate = new CountOperation(ops, entity).scan()
+				.splits(100)
+				.sample(0.1)
+				.random(new Random(1))
+				.estimate();
+		
+		Assert.assertEquals(10, ops.statements.size());
+		Assert.assertEquals(1000L, estimate.getEstimate());
+		Assert.assertEquals(1000L, estimate.getLower());
+		Assert.assertEquals(1000L, estimate.getUpper());
+		Assert.assertEquals(10, estimate.getSampledRanges());
+	}
+
+	@Test
+	public void testSampleRows() throws Exception {
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> new PagedResultSet(3, 1).resultSet);
+		
+		long rows = new SelectOperation<Integer>(ops, entity, r -> r.getInt(0)).scan()
+				.splits(8)
+				.sample(0.25)
+				.stream()
+				.count();
+		
+		Assert.assertEquals(6L, rows);
+		Assert.assertEquals(2, ops.statements.size());
+	}
+	
+}
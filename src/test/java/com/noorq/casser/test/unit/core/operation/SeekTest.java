@@ -0,0 +1,72 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.Date;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.Operator;
+import com.noorq.casser.core.operation.SelectOperation;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.OrderingDirection;
+import com.noorq.casser.support.CasserMappingException;
+
+public class SeekTest {
+
+	private final Timeline timeline = Casser.dsl(Timeline.class);
+	private final CasserEntity entity = Casser.entity(Timeline.class);
+	
+	private SelectOperation<Timeline> select() {
+		return new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.where(timeline::userId, Operator.EQ, "alice");
+	}
+	
+	@Test
+	public void testTableOrder() throws Exception {
+		
+		String cql = select().seekAfter(new Date(1000L), 5).cql();
+		
+		Assert.assertTrue(cql, cql.contains("(timestamp,seq)<(1000,5)"));
+	}
+
+	@Test
+	public void testReversedOrder() throws Exception {
+		
+		String cql = select()
+				.orderBy(timeline::timestamp, OrderingDirection.ASC)
+				.seekAfter(new Date(1000L), 5).cql();
+		
+		Assert.assertTrue(cql, cql.contains("(timestamp,seq)>(1000,5)"));
+		Assert.assertTrue(cql, cql.contains("ORDER BY timestamp ASC"));
+	}
+	
+	@Test
+	public void testPrefix() throws Exception {
+		
+		String cql = select().seekAfter(new Date(1000L)).cql();
+		
+		Assert.assertTrue(cql, cql.contains("timestamp<1000"));
+	}
+
+	@Test(expected = CasserMappingException.class)
+	public void testTooManyValues() throws Exception {
+		select().seekAfter(new Date(1000L), 5, 6).cql();
+	}
+	
+}
@@ -0,0 +1,139 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.noorq.casser.core.AbstractSessionOperations;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.core.operation.TokenRange;
+import com.noorq.casser.mapping.value.ColumnValuePreparer;
+import com.noorq.casser.mapping.value.ColumnValueProvider;
+import com.noorq.casser.mapping.value.RowColumnValueProvider;
+import com.noorq.casser.mapping.value.StatementColumnValuePreparer;
+
+/**
+ * Session operations without the session, statements are recorded and 
+ * executed by the function given to the constructor
+ */
+
+public final class TestSessionOperations extends AbstractSessionOperations {
+
+	public final List<String> statements = Collections.synchronizedList(new ArrayList<String>());
+	
+	private final Function<Statement, ResultSet> results;
+
+	private final ColumnValueProvider valueProvider = new RowColumnValueProvider(null);
+	private final ColumnValuePreparer valuePreparer = new StatementColumnValuePreparer(null);
+	
+	public TestSessionOperations() {
+		this(s -> {
+			throw new UnsupportedOperationException();
+		});
+	}
+	
+	public TestSessionOperations(Function<Statement, ResultSet> results) {
+		this.results = results;
+	}
+	
+	@Override
+	public ResultSetFuture executeAsync(Statement statement, boolean showValues) {
+		
+		statements.add(statement.toString());
+		
+		ResultSet resultSet = results.apply(statement);
+		
+		return (ResultSetFuture) Proxy.newProxyInstance(getClass().getClassLoader(), 
+				new Class<?>[] { ResultSetFuture.class }, (proxy, method, args) -> {
+			
+			switch(method.getName()) {
+			case "get":
+			case "getUninterruptibly":
+				return resultSet;
+			case "isDone":
+				return true;
+			case "addListener":
+				((Executor) args[1]).execute((Runnable) args[0]);
+				return null;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+			
+		});
+	}
+	
+	@Override
+	public String getPartitioner() {
+		return TokenRange.MURMUR3_PARTITIONER;
+	}
+	
+	@Override
+	public Session currentSession() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String usingKeyspace() {
+		return "test";
+	}
+
+	@Override
+	public boolean isShowCql() {
+		return false;
+	}
+
+	@Override
+	public boolean isEagerMapping() {
+		return false;
+	}
+
+	@Override
+	public PrintStream getPrintStream() {
+		return System.out;
+	}
+
+	@Override
+	public Executor getExecutor() {
+		return MoreExecutors.sameThreadExecutor();
+	}
+
+	@Override
+	public SessionRepository getSessionRepository() {
+		return null;
+	}
+
+	@Override
+	public ColumnValueProvider getValueProvider() {
+		return valueProvider;
+	}
+
+	@Override
+	public ColumnValuePreparer getValuePreparer() {
+		return valuePreparer;
+	}
+
+}
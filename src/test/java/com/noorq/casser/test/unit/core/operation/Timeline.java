@@ -0,0 +1,39 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.Date;
+
+import com.noorq.casser.mapping.OrderingDirection;
+import com.noorq.casser.mapping.annotation.ClusteringColumn;
+import com.noorq.casser.mapping.annotation.PartitionKey;
+import com.noorq.casser.mapping.annotation.Table;
+
+@Table
+public interface Timeline {
+
+	@PartitionKey
+	String userId();
+	
+	@ClusteringColumn(ordinal=0, ordering=OrderingDirection.DESC)
+	Date timestamp();
+	
+	@ClusteringColumn(ordinal=1, ordering=OrderingDirection.DESC)
+	int seq();
+	
+	String text();
+	
+}
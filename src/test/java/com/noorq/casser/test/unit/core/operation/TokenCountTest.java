@@ -0,0 +1,148 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.exceptions.UnavailableException;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.Operator;
+import com.noorq.casser.core.operation.CountOperation;
+import com.noorq.casser.core.operation.CountProgress;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.support.CasserException;
+import com.noorq.casser.support.CasserMappingException;
+import com.noorq.casser.test.unit.mapping.TestRows;
+
+public class TokenCountTest {
+
+	private final CasserEntity entity = Casser.entity(Timeline.class);
+	
+	static ResultSet countResult(long count) {
+		
+		Row row = new TestRows().column("count", DataType.bigint()).row(count);
+		
+		return (ResultSet) Proxy.newProxyInstance(TokenCountTest.class.getClassLoader(), 
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+			
+			if (method.getName().equals("one")) {
+				return row;
+			}
+			
+			throw new UnsupportedOperationException(method.getName());
+		});
+	}
+	
+	@Test
+	public void testCount() throws Exception {
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> countResult(10L));
+		
+		List<CountProgress> progress = Collections.synchronizedList(new ArrayList<CountProgress>());
+		
+		long count = new CountOperation(ops, entity).scan()
+				.splits(8)
+				.parallelism(3)
+				.progress(progress::add)
+				.sync();
+		
+		Assert.assertEquals(80L, count);
+		Assert.assertEquals(8, ops.statements.size());
+		Assert.assertEquals(8, progress.size());
+		Assert.assertTrue(progress.stream().anyMatch(p -> p.getCompletedRanges() == 8 && p.getCount() == 80L));
+		Assert.assertTrue(ops.statements.get(0), ops.statements.get(0).contains("SELECT count(*) FROM"));
+		Assert.assertTrue(ops.statements.get(0), ops.statements.get(0).contains("token(user_id)>"));
+	}
+
+	@Test
+	public void testRetry() throws Exception {
+		
+		AtomicInteger calls = new AtomicInteger();
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> {
+			if (calls.incrementAndGet() % 2 == 1) {
+				throw new UnavailableException(ConsistencyLevel.ONE, 1, 0);
+			}
+			return countResult(1L);
+		});
+		
+		long count = new CountOperation(ops, entity).scan()
+				.splits(4)
+				.parallelism(1)
+				.retries(1)
+				.sync();
+		
+		Assert.assertEquals(4L, count);
+		Assert.assertEquals(8, calls.get());
+	}
+
+	@Test(expected = CasserException.class)
+	public void testRetriesExhausted() throws Exception {
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> {
+			throw new UnavailableException(ConsistencyLevel.ONE, 1, 0);
+		});
+		
+		new CountOperation(ops, entity).scan().splits(4).retries(2).sync();
+	}
+	
+	@Test
+	public void testNotRetried() throws Exception {
+		
+		AtomicInteger calls = new AtomicInteger();
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> {
+			calls.incrementAndGet();
+			throw new IllegalStateException("invalid query");
+		});
+		
+		try {
+			new CountOperation(ops, entity).scan().splits(4).parallelism(1).retries(2).sync();
+			Assert.fail();
+		}
+		catch(CasserException e) {
+			Assert.assertEquals(1, calls.get());
+		}
+	}
+	
+	@Test
+	public void testPartitionKeyFilter() throws Exception {
+		
+		Timeline timeline = Casser.dsl(Timeline.class);
+		
+		TestSessionOperations ops = new TestSessionOperations(s -> countResult(1L));
+		
+		try {
+			new CountOperation(ops, entity).where(timeline::userId, Operator.EQ, "alice").scan().sync();
+			Assert.fail();
+		}
+		catch(CasserMappingException e) {
+			Assert.assertTrue(ops.statements.isEmpty());
+		}
+	}
+	
+}
@@ -0,0 +1,140 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.Operator;
+import com.noorq.casser.core.operation.SelectOperation;
+import com.noorq.casser.core.reflect.CasserPropertyNode;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.support.Fun;
+
+public class TokenRangeStreamTest {
+
+	private final Timeline timeline = Casser.dsl(Timeline.class);
+	private final CasserEntity entity = Casser.entity(Timeline.class);
+	
+	private final TestSessionOperations ops = new TestSessionOperations(s -> new PagedResultSet(5, 2).resultSet);
+	
+	private SelectOperation<Integer> select() {
+		return new SelectOperation<Integer>(ops, entity, r -> r.getInt(0));
+	}
+	
+	@Test
+	public void testSequential() throws Exception {
+		
+		Assert.assertEquals(10, select().splitByTokens().count());
+		
+		Assert.assertEquals(1, ops.statements.size());
+		Assert.assertFalse(ops.statements.get(0).contains("token("));
+	}
+	
+	@Test
+	public void testSyncNotSplit() throws Exception {
+		
+		Stream<Integer> stream = select().sync();
+		
+		Assert.assertEquals(1, ops.statements.size());
+		Assert.assertEquals(10, stream.parallel().count());
+		Assert.assertEquals(1, ops.statements.size());
+		Assert.assertFalse(ops.statements.get(0).contains("token("));
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		
+		ForkJoinPool pool = new ForkJoinPool(4);
+		
+		List<Integer> values = pool.submit(() -> 
+			select().splitByTokens().parallel().collect(Collectors.toList())).get();
+		
+		pool.shutdown();
+		
+		Assert.assertTrue(ops.statements.size() > 1);
+		Assert.assertEquals(10 * ops.statements.size(), values.size());
+		
+		for (String cql : ops.statements) {
+			Assert.assertTrue(cql, cql.contains("token(user_id)>"));
+		}
+	}
+	
+	@Test
+	public void testFiltered() throws Exception {
+		
+		long count = select().where(timeline::userId, Operator.EQ, "alice").splitByTokens().parallel().count();
+		
+		Assert.assertEquals(10, count);
+		Assert.assertEquals(1, ops.statements.size());
+	}
+	
+	@Test
+	public void testMapperPerRange() throws Exception {
+		
+		AtomicInteger mappers = new AtomicInteger();
+		
+		SelectOperation<Integer> select = new SelectOperation<Integer>(ops, () -> {
+			mappers.incrementAndGet();
+			return r -> r.getInt(0);
+		}, new CasserPropertyNode(entity.getProperty("userId"), Optional.empty()));
+		
+		AtomicInteger rows = new AtomicInteger();
+		
+		select.scan().splits(4).parallelism(2).forEachRange((range, stream) -> stream.forEach(v -> rows.incrementAndGet()));
+		
+		Assert.assertEquals(40, rows.get());
+		Assert.assertEquals(1 + 4, mappers.get());
+	}
+	
+	@Test
+	public void testScanShortCircuit() throws Exception {
+		
+		Assert.assertEquals(Integer.valueOf(0), select().scan().splits(4).stream().findFirst().get());
+		Assert.assertEquals(1, ops.statements.size());
+	}
+	
+	@Test
+	public void testScanParallel() throws Exception {
+		
+		List<Integer> values = select().scan().splits(4).stream().parallel().collect(Collectors.toList());
+		
+		Assert.assertEquals(40, values.size());
+		Assert.assertEquals(4, ops.statements.size());
+	}
+	
+	@Test
+	public void testColumnTuples() throws Exception {
+		
+		List<Fun.ArrayTuple> tuples = new SelectOperation<Fun.ArrayTuple>(ops)
+				.column(timeline::seq)
+				.sync()
+				.collect(Collectors.toList());
+		
+		Assert.assertEquals(10, tuples.size());
+		Assert.assertEquals(1, tuples.get(3)._a.length);
+		Assert.assertEquals(Integer.valueOf(3), tuples.get(3)._a[0]);
+	}
+	
+}
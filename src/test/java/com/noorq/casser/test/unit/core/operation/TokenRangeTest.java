@@ -0,0 +1,132 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.core.operation;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.Operator;
+import com.noorq.casser.core.operation.ScanCheckpoint;
+import com.noorq.casser.core.operation.SelectOperation;
+import com.noorq.casser.core.operation.TokenRange;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.support.CasserMappingException;
+
+public class TokenRangeTest {
+
+	private final Timeline timeline = Casser.dsl(Timeline.class);
+	private final CasserEntity entity = Casser.entity(Timeline.class);
+	
+	@Test
+	public void testSplitRing() throws Exception {
+		
+		List<TokenRange> ranges = TokenRange.splitRing(7);
+		
+		Assert.assertEquals(7, ranges.size());
+		Assert.assertEquals(Long.MIN_VALUE, ranges.get(0).getStart());
+		Assert.assertEquals(Long.MAX_VALUE, ranges.get(6).getEnd());
+		
+		double fraction = 0.0;
+		
+		for (int i = 0; i != ranges.size(); ++i) {
+			if (i > 0) {
+				Assert.assertEquals(ranges.get(i - 1).getEnd(), ranges.get(i).getStart());
+			}
+			fraction += ranges.get(i).getRingFraction();
+		}
+		
+		Assert.assertEquals(1.0, fraction, 1e-9);
+		Assert.assertTrue(ranges.get(3).contains(ranges.get(3).getEnd()));
+		Assert.assertFalse(ranges.get(3).contains(ranges.get(3).getStart()));
+	}
+	
+	@Test
+	public void testStatement() throws Exception {
+		
+		TokenRange range = new TokenRange(-100L, 200L);
+		
+		String cql = new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.buildStatement(range).toString();
+		
+		Assert.assertTrue(cql, cql.contains("token(user_id)>-100 AND token(user_id)<=200"));
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testPartitionKeyFilter() throws Exception {
+		
+		new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+			.where(timeline::userId, Operator.EQ, "alice")
+			.buildStatement(TokenRange.RING);
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testScanLimit() throws Exception {
+		
+		new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+			.limit(10)
+			.scan();
+	}
+	
+	@Test
+	public void testCheckpoint() throws Exception {
+		
+		ScanCheckpoint checkpoint = new ScanCheckpoint();
+		
+		List<TokenRange> ranges = TokenRange.splitRing(4);
+		checkpoint.complete(ranges.get(1));
+		
+		List<TokenRange> remaining = new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.scan().splits(4).checkpoint(checkpoint).getRanges();
+		
+		Assert.assertEquals(3, remaining.size());
+		Assert.assertFalse(remaining.contains(ranges.get(1)));
+	}
+	
+	@Test
+	public void testCheckpointSplits() throws Exception {
+		
+		ScanCheckpoint checkpoint = new ScanCheckpoint();
+		
+		List<TokenRange> ranges = new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.scan().parallelism(2).checkpoint(checkpoint).getRanges();
+		
+		Assert.assertEquals(8, ranges.size());
+		Assert.assertEquals(8, checkpoint.getSplits());
+		
+		checkpoint.complete(ranges.get(0));
+		
+		List<TokenRange> remaining = new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.scan().parallelism(3).checkpoint(checkpoint).getRanges();
+		
+		Assert.assertEquals(ranges.subList(1, 8), remaining);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testCheckpointSplitsMismatch() throws Exception {
+		
+		ScanCheckpoint checkpoint = new ScanCheckpoint();
+		
+		new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.scan().splits(4).checkpoint(checkpoint).getRanges();
+		
+		new SelectOperation<Timeline>(new TestSessionOperations(), entity)
+				.scan().splits(5).checkpoint(checkpoint).getRanges();
+	}
+	
+}
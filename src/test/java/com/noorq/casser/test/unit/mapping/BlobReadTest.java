@@ -0,0 +1,89 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.convert.ByteBufferToByteArrayConverter;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+
+public class BlobReadTest {
+
+	private final CasserEntity entity = Casser.entity(Document.class);
+	
+	private final TestRows rows = new TestRows()
+			.column("content", DataType.blob())
+			.column("raw", DataType.blob())
+			.column("bytes", DataType.blob());
+	
+	@Test
+	public void testRead() throws Exception {
+		
+		byte[] frame = new byte[] { 9, 1, 2, 3, 9 };
+		ByteBuffer slice = ByteBuffer.wrap(frame, 1, 3).slice();
+		
+		RowReadPlanner planner = new RowReadPlanner(null, 
+				entity.getProperty("content"), entity.getProperty("raw"), entity.getProperty("bytes"));
+		
+		Row row = rows.row(slice, slice, slice);
+		
+		ByteBuffer content = planner.getPlan(row).getValue(row, 0);
+		ByteBuffer raw = planner.getPlan(row).getValue(row, 1);
+		byte[] bytes = planner.getPlan(row).getValue(row, 2);
+		
+		Assert.assertTrue(content.isReadOnly());
+		Assert.assertFalse(raw.isReadOnly());
+		Assert.assertEquals(3, content.remaining());
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, bytes);
+		
+		frame[1] = 7;
+		Assert.assertEquals(7, content.get(0));
+		Assert.assertEquals(1, bytes[0]);
+		
+	}
+	
+	@Test
+	public void testWriteAsIs() throws Exception {
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		
+		Assert.assertSame(direct, entity.getProperty("raw").getCodec(null).write(direct));
+		Assert.assertSame(direct, entity.getProperty("content").getCodec(null).write(direct));
+	}
+	
+	@Test
+	public void testByteArray() throws Exception {
+		
+		byte[] array = new byte[] { 1, 2, 3 };
+		
+		Assert.assertSame(array, ByteBufferToByteArrayConverter.INSTANCE.apply(ByteBuffer.wrap(array)));
+		Assert.assertTrue(Arrays.equals(new byte[] { 2, 3 }, ByteBufferToByteArrayConverter.INSTANCE.apply(ByteBuffer.wrap(array, 1, 2))));
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(2);
+		direct.put((byte) 5).put((byte) 6).flip();
+		Assert.assertArrayEquals(new byte[] { 5, 6 }, ByteBufferToByteArrayConverter.INSTANCE.apply(direct));
+		Assert.assertEquals(0, direct.position());
+	}
+	
+}
@@ -0,0 +1,76 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.value.ColumnBatch;
+import com.noorq.casser.mapping.value.ColumnBatch.VectorType;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+
+public class ColumnBatchTest {
+
+	private final CasserEntity entity = Casser.entity(Metric.class);
+	
+	private final TestRows rows = new TestRows()
+			.column("name", DataType.text())
+			.column("count", DataType.bigint())
+			.column("value", DataType.cdouble())
+			.column("total", DataType.bigint());
+	
+	@Test
+	public void testRead() throws Exception {
+		
+		RowReadPlanner planner = new RowReadPlanner(null, 
+				entity.getProperty("name"), entity.getProperty("count"), 
+				entity.getProperty("value"), entity.getProperty("total"));
+		
+		Iterator<Row> source = Arrays.asList(
+				rows.row("cpu", 1L, 0.5, null),
+				rows.row("mem", null, 1.5, null),
+				rows.row("disk", 3L, null, null)).iterator();
+		
+		ColumnBatch batch = ColumnBatch.read(source, 3, planner);
+		
+		Assert.assertEquals(3, batch.size());
+		Assert.assertEquals(4, batch.getColumnCount());
+		
+		Assert.assertEquals(VectorType.OBJECT, batch.getVectorType(0));
+		Assert.assertEquals(VectorType.LONG, batch.getVectorType(1));
+		Assert.assertEquals(VectorType.DOUBLE, batch.getVectorType(2));
+		Assert.assertEquals(VectorType.LONG, batch.getVectorType(3));
+		
+		Assert.assertArrayEquals(new Object[] { "cpu", "mem", "disk" }, batch.getObjects(0));
+		Assert.assertArrayEquals(new long[] { 1L, 0L, 3L }, batch.getLongs(1));
+		Assert.assertArrayEquals(new double[] { 0.5, 1.5, 0.0 }, batch.getDoubles(2), 0.0);
+		
+		Assert.assertFalse(batch.isNull(1, 0));
+		Assert.assertTrue(batch.isNull(1, 1));
+		Assert.assertTrue(batch.isNull(2, 2));
+		Assert.assertTrue(batch.isNull(3, 0));
+		
+		Assert.assertFalse(source.hasNext());
+	}
+	
+}
@@ -0,0 +1,42 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.nio.ByteBuffer;
+
+import com.noorq.casser.mapping.annotation.Interned;
+import com.noorq.casser.mapping.annotation.PartitionKey;
+import com.noorq.casser.mapping.annotation.Table;
+import com.noorq.casser.mapping.annotation.Types;
+
+@Table
+public interface Document {
+
+	@PartitionKey
+	String id();
+	
+	@Types.Blob(readOnly = true)
+	ByteBuffer content();
+	
+	ByteBuffer raw();
+	
+	byte[] bytes();
+	
+	@Interned(capacity = 16)
+	String mimeType();
+	
+	
+}
@@ -0,0 +1,50 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+
+public class InternedReadTest {
+
+	private final CasserEntity entity = Casser.entity(Document.class);
+	
+	@Test
+	public void testInterned() throws Exception {
+		
+		TestRows rows = new TestRows().column("mime_type", DataType.text());
+		
+		RowReadPlanner planner = new RowReadPlanner(null, entity.getProperty("mimeType"));
+		
+		Row first = rows.row("application/pdf");
+		Row second = rows.row("application/pdf");
+		
+		String a = planner.getPlan(first).getValue(first, 0);
+		String b = planner.getPlan(second).getValue(second, 0);
+		
+		Assert.assertEquals("application/pdf", a);
+		Assert.assertSame(a, b);
+		Assert.assertTrue(entity.getProperty("mimeType").getStringDictionary().isPresent());
+		Assert.assertFalse(entity.getProperty("raw").getStringDictionary().isPresent());
+	}
+	
+}
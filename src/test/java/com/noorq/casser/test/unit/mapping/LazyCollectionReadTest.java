@@ -0,0 +1,112 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.UDTValue;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.SessionRepositoryBuilder;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.convert.udt.UDTMapToMapConverter;
+import com.noorq.casser.mapping.convert.udt.UDTSetToSetConverter;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+
+public class LazyCollectionReadTest {
+
+	private final CasserEntity entity = Casser.entity(Inventory.class);
+	
+	@Test
+	public void testNegotiatedProtocolVersion() throws Exception {
+		
+		Map<String, Long> counts = new LinkedHashMap<String, Long>();
+		counts.put("a", 1L);
+		counts.put("b", 2L);
+		
+		DataType type = DataType.map(DataType.text(), DataType.bigint());
+		
+		TestRows rows = new TestRows()
+				.protocolVersion(ProtocolVersion.V2)
+				.column("counts", type);
+		
+		Row row = rows.row(counts);
+		
+		SessionRepositoryBuilder builder = new SessionRepositoryBuilder();
+		builder.setProtocolVersion(ProtocolVersion.V2);
+		
+		RowReadPlanner planner = new RowReadPlanner(builder.build(), entity.getProperty("counts"));
+		
+		Map<String, Long> map = planner.getPlan(row).getValue(row, 0);
+		
+		Assert.assertEquals(2, map.size());
+		Assert.assertEquals(Long.valueOf(2L), map.get("b"));
+		Assert.assertEquals(counts, map);
+	}
+	
+	@Test
+	public void testUDTCollectionsAreNotCopied() throws Exception {
+		
+		AtomicInteger iterations = new AtomicInteger();
+		
+		Set<UDTValue> set = new AbstractSet<UDTValue>() {
+
+			@Override
+			public Iterator<UDTValue> iterator() {
+				iterations.incrementAndGet();
+				return Collections.<UDTValue>emptyIterator();
+			}
+
+			@Override
+			public int size() {
+				return 0;
+			}
+			
+		};
+		
+		Map<UDTValue, UDTValue> map = new AbstractMap<UDTValue, UDTValue>() {
+
+			@Override
+			public Set<Map.Entry<UDTValue, UDTValue>> entrySet() {
+				iterations.incrementAndGet();
+				return Collections.emptySet();
+			}
+			
+		};
+		
+		SessionRepositoryBuilder builder = new SessionRepositoryBuilder();
+		
+		Set<?> outSet = (Set<?>) new UDTSetToSetConverter(Location.class, builder.build()).apply(set);
+		Map<?, ?> outMap = (Map<?, ?>) new UDTMapToMapConverter(Location.class, Location.class, builder.build()).apply(map);
+		
+		Assert.assertEquals(0, iterations.get());
+		Assert.assertTrue(outSet.isEmpty());
+		Assert.assertTrue(outMap.isEmpty());
+	}
+	
+}
@@ -0,0 +1,116 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.SessionRepositoryBuilder;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.type.DTDataType;
+import com.noorq.casser.mapping.value.RowReadPlan;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+import com.noorq.casser.support.IntList;
+import com.noorq.casser.support.LongSet;
+
+public class PrimitiveCollectionReadTest {
+
+	private final CasserEntity entity = Casser.entity(Membership.class);
+	
+	@Test
+	public void testDataType() throws Exception {
+		
+		Assert.assertEquals(DataType.set(DataType.bigint()), 
+				((DTDataType) entity.getProperty("members").getDataType()).getDataType());
+		
+		Assert.assertEquals(DataType.list(DataType.cint()), 
+				((DTDataType) entity.getProperty("ranks").getDataType()).getDataType());
+	}
+	
+	@Test
+	public void testRead() throws Exception {
+		
+		TestRows rows = new TestRows()
+			.column("members", DataType.set(DataType.bigint()))
+			.column("ranks", DataType.list(DataType.cint()));
+		
+		RowReadPlanner planner = new RowReadPlanner(null, entity.getProperty("members"), entity.getProperty("ranks"));
+
+		Row row = rows.row(new HashSet<Long>(Arrays.asList(30L, 10L, 20L)), Arrays.asList(3, 1, 2));
+		RowReadPlan plan = planner.getPlan(row);
+		
+		LongSet members = plan.getValue(row, 0);
+		IntList ranks = plan.getValue(row, 1);
+		
+		Assert.assertArrayEquals(new long[] { 10L, 20L, 30L }, members.toLongArray());
+		Assert.assertTrue(members.contains(20L));
+		Assert.assertFalse(members.contains(25L));
+		Assert.assertArrayEquals(new int[] { 3, 1, 2 }, ranks.toIntArray());
+		
+		Assert.assertFalse(rows.calls.contains("getSet"));
+		Assert.assertFalse(rows.calls.contains("getList"));
+	}
+
+	@Test
+	public void testReadNull() throws Exception {
+		
+		TestRows rows = new TestRows()
+			.column("members", DataType.set(DataType.bigint()))
+			.column("ranks", DataType.list(DataType.cint()));
+		
+		RowReadPlanner planner = new RowReadPlanner(null, entity.getProperty("members"), entity.getProperty("ranks"));
+
+		Row row = rows.row(null, null);
+		RowReadPlan plan = planner.getPlan(row);
+		
+		LongSet members = plan.getValue(row, 0);
+		IntList ranks = plan.getValue(row, 1);
+		
+		Assert.assertTrue(members.isEmpty());
+		Assert.assertTrue(ranks.isEmpty());
+	}
+	
+	@Test
+	public void testNegotiatedProtocolVersion() throws Exception {
+		
+		TestRows rows = new TestRows()
+			.protocolVersion(ProtocolVersion.V2)
+			.column("members", DataType.set(DataType.bigint()))
+			.column("ranks", DataType.list(DataType.cint()));
+		
+		SessionRepositoryBuilder builder = new SessionRepositoryBuilder();
+		builder.setProtocolVersion(ProtocolVersion.V2);
+		
+		RowReadPlanner planner = new RowReadPlanner(builder.build(), entity.getProperty("members"), entity.getProperty("ranks"));
+
+		Row row = rows.row(new HashSet<Long>(Arrays.asList(30L, 10L, 20L)), Arrays.asList(3, 1, 2));
+		RowReadPlan plan = planner.getPlan(row);
+		
+		LongSet members = plan.getValue(row, 0);
+		IntList ranks = plan.getValue(row, 1);
+		
+		Assert.assertArrayEquals(new long[] { 10L, 20L, 30L }, members.toLongArray());
+		Assert.assertArrayEquals(new int[] { 3, 1, 2 }, ranks.toIntArray());
+	}
+	
+}
@@ -0,0 +1,118 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.reflect.CreatorMapper;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.annotation.Param;
+import com.noorq.casser.mapping.value.RowReadPlan;
+import com.noorq.casser.mapping.value.ValueSnapshotMap;
+
+public class PrimitiveReadTest {
+
+	public static final class MetricView {
+		
+		final String name;
+		final long count;
+		final double value;
+		
+		public MetricView(@Param("name") String name, @Param("count") long count, @Param("value") double value) {
+			this.name = name;
+			this.count = count;
+			this.value = value;
+		}
+		
+	}
+	
+	private final CasserEntity entity = Casser.entity(Metric.class);
+	
+	private final TestRows rows = new TestRows()
+			.column("name", DataType.text())
+			.column("count", DataType.bigint())
+			.column("value", DataType.cdouble())
+			.column("total", DataType.bigint());
+	
+	private RowReadPlan plan() {
+		return new RowReadPlan(rows.getColumnDefinitions(), 
+				Arrays.asList(entity.getOrderedProperties().toArray(new CasserProperty[0])), null, true);
+	}
+	
+	@Test
+	public void testPlan() throws Exception {
+		
+		RowReadPlan plan = plan();
+		
+		Assert.assertNull(plan.getPrimitiveType(entity.getOrderedIndex("name")));
+		Assert.assertEquals(long.class, plan.getPrimitiveType(entity.getOrderedIndex("count")));
+		Assert.assertEquals(double.class, plan.getPrimitiveType(entity.getOrderedIndex("value")));
+		Assert.assertNull(plan.getPrimitiveType(entity.getOrderedIndex("total")));
+		
+		Row row = rows.row("cpu", 7L, 0.5, 9L);
+		
+		Assert.assertEquals(7L, plan.getLong(row, entity.getOrderedIndex("count")));
+		Assert.assertEquals(9L, plan.getLong(row, entity.getOrderedIndex("total")));
+		
+	}
+	
+	@Test
+	public void testSnapshot() throws Exception {
+		
+		Row row = rows.row("cpu", 7L, 0.5, null);
+		
+		ValueSnapshotMap map = new ValueSnapshotMap(row, plan(), entity);
+		
+		Assert.assertEquals(1, rows.calls.stream().filter(c -> c.equals("getBytesUnsafe")).count());
+		Assert.assertEquals(7L, map.getLong("count"));
+		Assert.assertEquals(0.5, map.getDouble("value"), 0.0);
+		Assert.assertEquals(0L, map.getLong("total"));
+		Assert.assertEquals(Long.valueOf(7L), map.get("count"));
+		Assert.assertNull(map.get("total"));
+		
+		Metric metric = Casser.map(Metric.class, map);
+		Assert.assertEquals(7L, metric.count());
+		Assert.assertEquals(0.5, metric.value(), 0.0);
+		Assert.assertNull(metric.total());
+		
+	}
+	
+	@Test
+	public void testCreator() throws Exception {
+		
+		CreatorMapper<MetricView> mapper = new CreatorMapper<MetricView>(entity, MetricView.class, null);
+		
+		MetricView view = mapper.apply(rows.row("cpu", 7L, 0.5, 9L));
+		
+		Assert.assertEquals("cpu", view.name);
+		Assert.assertEquals(7L, view.count);
+		Assert.assertEquals(0.5, view.value, 0.0);
+		
+		Assert.assertEquals(1, rows.calls.stream().filter(c -> c.equals("getBytesUnsafe")).count());
+		
+		view = mapper.apply(rows.row("mem", null, null, null));
+		Assert.assertEquals(0L, view.count);
+		
+	}
+	
+}
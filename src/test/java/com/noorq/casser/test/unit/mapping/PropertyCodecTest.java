@@ -0,0 +1,81 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.core.SessionRepositoryBuilder;
+import com.noorq.casser.mapping.CasserMappingProperty;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.PropertyCodec;
+
+public class PropertyCodecTest {
+
+	@Test
+	public void testIdentity() throws Exception {
+		
+		Object value = new Object();
+		
+		Assert.assertSame(value, PropertyCodec.IDENTITY.read(value));
+		Assert.assertSame(value, PropertyCodec.IDENTITY.write(value));
+		Assert.assertSame(value, PropertyCodec.IDENTITY.writeElement(value));
+		
+		Assert.assertFalse(PropertyCodec.IDENTITY.getReadConverter().isPresent());
+		Assert.assertFalse(PropertyCodec.IDENTITY.getWriteConverter().isPresent());
+		
+	}
+	
+	@Test
+	public void testConverters() throws Exception {
+		
+		Function<Object, Object> read = v -> "read:" + v;
+		Function<Object, Object> write = v -> "write:" + v;
+		Function<Object, Object> element = v -> "element:" + v;
+		
+		PropertyCodec codec = new PropertyCodec(Optional.of(read), Optional.of(write), Optional.of(element));
+		
+		Assert.assertEquals("read:1", codec.read(1));
+		Assert.assertEquals("write:1", codec.write(1));
+		Assert.assertEquals("element:1", codec.writeElement(1));
+		
+		Assert.assertNull(codec.read(null));
+		Assert.assertNull(codec.write(null));
+		Assert.assertNull(codec.writeElement(null));
+		
+	}
+	
+	@Test
+	public void testCodecPerRepository() throws Exception {
+		
+		CasserProperty prop = Casser.entity(Membership.class).getProperty("members");
+		
+		SessionRepository first = new SessionRepositoryBuilder().build();
+		SessionRepository second = new SessionRepositoryBuilder().build();
+		
+		PropertyCodec codec = prop.getCodec(first);
+		
+		Assert.assertNotSame(codec, prop.getCodec(second));
+		Assert.assertSame(codec, prop.getCodec(first));
+		Assert.assertSame(codec, first.getCodec((CasserMappingProperty) prop));
+	}
+	
+}
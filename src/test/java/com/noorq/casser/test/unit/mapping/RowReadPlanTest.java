@@ -0,0 +1,80 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+import com.noorq.casser.support.CasserMappingException;
+
+public class RowReadPlanTest {
+
+	private final CasserEntity entity = Casser.entity(Metric.class);
+	
+	@Test
+	public void testProjectionByPosition() throws Exception {
+		
+		TestRows rows = new TestRows()
+				.column("address.street", DataType.text())
+				.column("count", DataType.bigint());
+		
+		RowReadPlanner planner = new RowReadPlanner(null, entity.getProperty("name"), entity.getProperty("count"));
+		
+		Row row = rows.row("main", 5L);
+		
+		Assert.assertEquals("main", planner.getPlan(row).getValue(row, 0));
+		Assert.assertEquals(5L, planner.getPlan(row).getLong(row, 1));
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testMissingProjectionColumn() throws Exception {
+		
+		TestRows rows = new TestRows().column("name", DataType.text());
+		
+		new RowReadPlanner(null, entity.getProperty("name"), entity.getProperty("count")).getPlan(rows.row("a"));
+	}
+	
+	@Test
+	public void testEntityByName() throws Exception {
+		
+		TestRows rows = new TestRows()
+				.column("count", DataType.bigint())
+				.column("name", DataType.text());
+		
+		RowReadPlanner planner = RowReadPlanner.forEntity(null, entity);
+		
+		Row row = rows.row(5L, "a");
+		
+		Assert.assertEquals("a", planner.getPlan(row).getValue(row, entity.getOrderedIndex("name")));
+		Assert.assertEquals(5L, planner.getPlan(row).getLong(row, entity.getOrderedIndex("count")));
+	}
+	
+	@Test(expected = CasserMappingException.class)
+	public void testMissingEntityColumn() throws Exception {
+		
+		TestRows rows = new TestRows().column("name", DataType.text());
+		
+		Row row = rows.row("a");
+		
+		RowReadPlanner.forEntity(null, entity).getPlan(row).getValue(row, entity.getOrderedIndex("total"));
+	}
+	
+}
@@ -0,0 +1,74 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.value.RowReadPlanner;
+import com.noorq.casser.mapping.value.RowView;
+
+public class RowViewTest {
+
+	private final CasserEntity entity = Casser.entity(Metric.class);
+	
+	private final TestRows rows = new TestRows()
+			.column("name", DataType.text())
+			.column("count", DataType.bigint())
+			.column("total", DataType.bigint());
+	
+	@Test
+	public void testReuse() throws Exception {
+		
+		RowView view = new RowView(new RowReadPlanner(null, 
+				entity.getProperty("name"), entity.getProperty("count"), entity.getProperty("total")));
+		
+		Assert.assertEquals(3, view.getColumnCount());
+		Assert.assertEquals(1, view.indexOf(entity.getProperty("count")));
+		Assert.assertEquals(-1, view.indexOf(entity.getProperty("value")));
+		
+		Assert.assertSame(view, view.set(rows.row("cpu", 1L, null)));
+		Assert.assertEquals("cpu", view.getValue(0));
+		Assert.assertEquals(1L, view.getLong(1));
+		Assert.assertTrue(view.isNull(2));
+		Assert.assertNull(view.getValue(2));
+		Assert.assertEquals(0L, view.getLong(2));
+		
+		view.set(rows.row("mem", 2L, 5L));
+		Assert.assertEquals("mem", view.getValue(0));
+		Assert.assertEquals(2L, view.getLong(1));
+		Assert.assertFalse(view.isNull(2));
+		Assert.assertEquals(5L, view.getLong(2));
+		
+	}
+	
+	@Test
+	public void testBoxedPropertyUnboxed() throws Exception {
+		
+		RowView view = new RowView(new RowReadPlanner(null, entity.getProperty("total")));
+		
+		TestRows totals = new TestRows().column("total", DataType.bigint());
+		
+		view.set(totals.row(5L));
+		Assert.assertEquals(5L, view.getLong(0));
+		Assert.assertFalse(totals.calls.contains("getBytesUnsafe"));
+		
+	}
+	
+}
@@ -0,0 +1,194 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.noorq.casser.mapping.value.SerializedCollections;
+
+public class SerializedCollectionsTest {
+
+	@Test
+	public void testList() throws Exception {
+		
+		for (ProtocolVersion version : new ProtocolVersion[] { ProtocolVersion.V2, ProtocolVersion.V3 }) {
+
+			DataType type = DataType.list(DataType.text());
+			List<String> expected = Arrays.asList("a", "bb", "", "ccc");
+			
+			ByteBuffer bytes = type.serialize(expected, version);
+			
+			@SuppressWarnings("unchecked")
+			List<String> list = (List<String>) SerializedCollections.of(bytes, type, version);
+			
+			Assert.assertEquals(4, list.size());
+			Assert.assertEquals("ccc", list.get(3));
+			Assert.assertSame(list.get(1), list.get(1));
+			Assert.assertEquals(expected, list);
+			Assert.assertEquals(0, bytes.position());
+		}
+		
+	}
+	
+	@Test
+	public void testSet() throws Exception {
+		
+		DataType type = DataType.set(DataType.cint());
+		Set<Integer> expected = new LinkedHashSet<Integer>(Arrays.asList(1, 2, 3));
+		
+		@SuppressWarnings("unchecked")
+		Set<Integer> set = (Set<Integer>) SerializedCollections.of(type.serialize(expected, ProtocolVersion.V3), type, ProtocolVersion.V3);
+		
+		Assert.assertEquals(3, set.size());
+		Assert.assertTrue(set.contains(2));
+		Assert.assertFalse(set.contains(4));
+		Assert.assertEquals(expected, set);
+		
+	}
+
+	@Test
+	public void testMap() throws Exception {
+		
+		DataType type = DataType.map(DataType.text(), DataType.bigint());
+		Map<String, Long> expected = new TreeMap<String, Long>();
+		for (long i = 0; i != 100; ++i) {
+			expected.put("key" + i, i);
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<String, Long> map = (Map<String, Long>) SerializedCollections.of(type.serialize(expected, ProtocolVersion.V3), type, ProtocolVersion.V3);
+		
+		Assert.assertEquals(100, map.size());
+		Assert.assertEquals(Long.valueOf(42), map.get("key42"));
+		Assert.assertNull(map.get("key100"));
+		Assert.assertTrue(map.containsKey("key99"));
+		Assert.assertEquals(expected, map);
+		
+	}
+	
+	@Test
+	public void testMapDecodesProbedKeys() throws Exception {
+		
+		int size = 1024;
+		int[] lookups = { 0, 517, 1023 };
+		
+		Set<Integer> probed = new TreeSet<Integer>();
+		for (int key : lookups) {
+			probed.addAll(probes(size, key));
+		}
+		probed.addAll(probes(size, size));
+		
+		Assert.assertTrue(probed.size() <= 4 * 11);
+		
+		ByteBuffer bytes = ByteBuffer.allocate(4 + size * 24);
+		bytes.putInt(size);
+		
+		for (int i = 0; i != size; ++i) {
+			if (probed.contains(i)) {
+				bytes.putInt(4).putInt(i);
+			}
+			else {
+				bytes.putInt(3).put(new byte[3]);
+			}
+			bytes.putInt(8).putLong(i * 10L);
+		}
+		
+		bytes.flip();
+		
+		DataType type = DataType.map(DataType.cint(), DataType.bigint());
+		
+		@SuppressWarnings("unchecked")
+		Map<Integer, Long> map = (Map<Integer, Long>) SerializedCollections.of(bytes, type, ProtocolVersion.V3);
+		
+		for (int key : lookups) {
+			Assert.assertEquals(Long.valueOf(key * 10L), map.get(key));
+		}
+		Assert.assertFalse(map.containsKey(size));
+		Assert.assertFalse(map.containsKey("0"));
+		
+		try {
+			map.keySet().forEach(k -> {});
+			Assert.fail("unprobed keys are not decodable");
+		}
+		catch (RuntimeException e) {
+		}
+		
+	}
+	
+	@Test
+	public void testMapUnorderedKeys() throws Exception {
+		
+		DataType type = DataType.map(DataType.uuid(), DataType.text());
+		Map<UUID, String> expected = new LinkedHashMap<UUID, String>();
+		for (int i = 0; i != 10; ++i) {
+			expected.put(UUID.randomUUID(), "value" + i);
+		}
+		
+		@SuppressWarnings("unchecked")
+		Map<UUID, String> map = (Map<UUID, String>) SerializedCollections.of(type.serialize(expected, ProtocolVersion.V3), type, ProtocolVersion.V3);
+		
+		for (Map.Entry<UUID, String> e : expected.entrySet()) {
+			Assert.assertEquals(e.getValue(), map.get(e.getKey()));
+		}
+		Assert.assertNull(map.get(UUID.randomUUID()));
+		
+	}
+	
+	private static List<Integer> probes(int size, int key) {
+		
+		List<Integer> probes = new ArrayList<Integer>();
+		
+		int low = 0;
+		int high = size - 1;
+		
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			probes.add(mid);
+			if (mid < key) {
+				low = mid + 1;
+			}
+			else if (mid > key) {
+				high = mid - 1;
+			}
+			else {
+				break;
+			}
+		}
+		
+		return probes;
+	}
+	
+	@Test
+	public void testNull() throws Exception {
+		Assert.assertNull(SerializedCollections.of(null, DataType.list(DataType.text()), ProtocolVersion.V3));
+	}
+	
+}
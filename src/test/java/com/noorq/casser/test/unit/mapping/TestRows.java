@@ -0,0 +1,113 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+
+/**
+ * Builds driver rows in memory, the ColumnDefinitions constructor is not public.
+ */
+
+public final class TestRows {
+
+	private final List<String> names = new ArrayList<String>();
+	private final List<DataType> types = new ArrayList<DataType>();
+	
+	private ProtocolVersion protocolVersion = ProtocolVersion.NEWEST_SUPPORTED;
+	
+	private ColumnDefinitions definitions;
+	
+	public final List<String> calls = new ArrayList<String>();
+	
+	public TestRows column(String name, DataType type) {
+		names.add(name);
+		types.add(type);
+		return this;
+	}
+	
+	public TestRows protocolVersion(ProtocolVersion protocolVersion) {
+		this.protocolVersion = protocolVersion;
+		return this;
+	}
+	
+	public ColumnDefinitions getColumnDefinitions() {
+		
+		if (definitions == null) {
+			try {
+				Class<?> definitionClass = Class.forName("com.datastax.driver.core.ColumnDefinitions$Definition");
+				Constructor<?> definitionConstructor = definitionClass.getDeclaredConstructor(String.class, String.class, String.class, DataType.class);
+				definitionConstructor.setAccessible(true);
+				
+				Object array = Array.newInstance(definitionClass, names.size());
+				for (int i = 0; i != names.size(); ++i) {
+					Array.set(array, i, definitionConstructor.newInstance("ks", "table", names.get(i), types.get(i)));
+				}
+				
+				Constructor<ColumnDefinitions> constructor = ColumnDefinitions.class.getDeclaredConstructor(array.getClass());
+				constructor.setAccessible(true);
+				definitions = constructor.newInstance(array);
+				
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		
+		return definitions;
+	}
+	
+	public Row row(Object... values) {
+		
+		ColumnDefinitions defs = getColumnDefinitions();
+		
+		return (Row) Proxy.newProxyInstance(Row.class.getClassLoader(), new Class<?>[] { Row.class }, (proxy, method, args) -> {
+			
+			calls.add(method.getName());
+			
+			switch(method.getName()) {
+			case "getColumnDefinitions":
+				return defs;
+			case "isNull":
+				return values[(Integer) args[0]] == null;
+			case "getBytesUnsafe":
+				int index = (Integer) args[0];
+				return values[index] == null ? null : types.get(index).serialize(values[index], protocolVersion);
+			case "getBool":
+				return values[(Integer) args[0]] != null ? values[(Integer) args[0]] : false;
+			case "getInt":
+				return values[(Integer) args[0]] != null ? values[(Integer) args[0]] : 0;
+			case "getLong":
+				return values[(Integer) args[0]] != null ? values[(Integer) args[0]] : 0L;
+			case "getFloat":
+				return values[(Integer) args[0]] != null ? values[(Integer) args[0]] : 0.0f;
+			case "getDouble":
+				return values[(Integer) args[0]] != null ? values[(Integer) args[0]] : 0.0;
+			default:
+				throw new UnsupportedOperationException(method.toString());
+			}
+			
+		});
+	}
+	
+}
@@ -0,0 +1,164 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.core.SessionRepository;
+import com.noorq.casser.core.SessionRepositoryBuilder;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.convert.udt.UDTListToListConverter;
+import com.noorq.casser.mapping.convert.udt.UDTValueToEntityConverter;
+import com.noorq.casser.mapping.value.UDTColumnValueProvider;
+import com.noorq.casser.mapping.value.UDTReadPlan;
+import com.noorq.casser.support.CasserMappingException;
+
+public class UDTReadTest {
+
+	static {
+		// the driver codec classes can deadlock when their initialization starts in parallel test methods
+		userType("street", DataType.text()).newValue().setString("street", "");
+	}
+	
+	private final CasserEntity entity = Casser.entity(Location.class);
+	
+	/**
+	 * The UserType constructor is not public
+	 */
+	
+	static UserType userType(Object... namesAndTypes) {
+		
+		try {
+			Class<?> fieldClass = Class.forName("com.datastax.driver.core.UserType$Field");
+			Constructor<?> fieldConstructor = fieldClass.getDeclaredConstructor(String.class, DataType.class);
+			fieldConstructor.setAccessible(true);
+			
+			List<Object> fields = new ArrayList<Object>();
+			for (int i = 0; i != namesAndTypes.length; i += 2) {
+				fields.add(fieldConstructor.newInstance(namesAndTypes[i], namesAndTypes[i + 1]));
+			}
+			
+			Constructor<UserType> constructor = UserType.class.getDeclaredConstructor(String.class, String.class, Collection.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance("ks", "location", fields);
+			
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private SessionRepository repository(boolean eager) {
+		SessionRepositoryBuilder builder = new SessionRepositoryBuilder();
+		builder.setEagerUdtMapping(eager);
+		return builder.build();
+	}
+	
+	@Test
+	public void testFieldsByIndex() throws Exception {
+		
+		UserType userType = userType("zip", DataType.cint(), "street", DataType.text());
+		UDTValue value = userType.newValue().setInt("zip", 12345).setString("street", "main");
+		
+		UDTColumnValueProvider provider = new UDTColumnValueProvider(repository(false));
+		
+		Assert.assertEquals("main", provider.getColumnValue(value, -1, entity.getProperty("street")));
+		Assert.assertEquals(Integer.valueOf(12345), provider.getColumnValue(value, -1, entity.getProperty("zip")));
+	}
+	
+	@Test
+	public void testPlanReuse() throws Exception {
+		
+		SessionRepository repository = repository(false);
+		
+		UserType first = userType("street", DataType.text(), "zip", DataType.cint());
+		UserType second = userType("zip", DataType.cint(), "street", DataType.text());
+		
+		UDTReadPlan plan = new UDTReadPlan(first, entity, repository);
+		
+		Assert.assertTrue(plan.isApplicable(first, entity));
+		Assert.assertFalse(plan.isApplicable(second, entity));
+		
+		UDTColumnValueProvider provider = new UDTColumnValueProvider(repository);
+		
+		UDTValue a = first.newValue().setString("street", "a").setInt("zip", 1);
+		UDTValue b = second.newValue().setInt("zip", 2).setString("street", "b");
+		
+		Assert.assertEquals("a", provider.getColumnValue(a, -1, entity.getProperty("street")));
+		Assert.assertEquals("b", provider.getColumnValue(b, -1, entity.getProperty("street")));
+		Assert.assertEquals(Integer.valueOf(1), provider.getColumnValue(a, -1, entity.getProperty("zip")));
+	}
+	
+	@Test
+	public void testMissingField() throws Exception {
+		
+		UserType userType = userType("street", DataType.text());
+		UDTValue value = userType.newValue().setString("street", "main");
+		
+		UDTColumnValueProvider provider = new UDTColumnValueProvider(repository(false));
+		
+		Assert.assertEquals("main", provider.getColumnValue(value, -1, entity.getProperty("street")));
+		
+		try {
+			provider.getColumnValue(value, -1, entity.getProperty("zip"));
+			Assert.fail();
+		}
+		catch(CasserMappingException e) {
+		}
+	}
+	
+	@Test
+	public void testEagerMapping() throws Exception {
+		
+		UserType userType = userType("street", DataType.text(), "zip", DataType.cint());
+		UDTValue value = userType.newValue().setString("street", "main").setInt("zip", 1);
+		
+		Location lazy = (Location) new UDTValueToEntityConverter(Location.class, repository(false)).apply(value);
+		Location eager = (Location) new UDTValueToEntityConverter(Location.class, repository(true)).apply(value);
+		
+		value.setString("street", "changed");
+		
+		Assert.assertEquals("changed", lazy.street());
+		Assert.assertEquals("main", eager.street());
+		Assert.assertEquals(1, eager.zip());
+	}
+	
+	@Test
+	public void testEagerList() throws Exception {
+		
+		UserType userType = userType("street", DataType.text(), "zip", DataType.cint());
+		List<UDTValue> values = new ArrayList<UDTValue>();
+		values.add(userType.newValue().setString("street", "a"));
+		
+		List<?> lazy = (List<?>) new UDTListToListConverter(Location.class, repository(false)).apply(values);
+		List<?> eager = (List<?>) new UDTListToListConverter(Location.class, repository(true)).apply(values);
+		
+		values.get(0).setString("street", "changed");
+		
+		Assert.assertEquals("changed", ((Location) lazy.get(0)).street());
+		Assert.assertEquals("a", ((Location) eager.get(0)).street());
+	}
+	
+}
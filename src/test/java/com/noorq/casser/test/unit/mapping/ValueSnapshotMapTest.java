@@ -0,0 +1,85 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.core.Casser;
+import com.noorq.casser.mapping.CasserEntity;
+import com.noorq.casser.mapping.CasserProperty;
+import com.noorq.casser.mapping.value.ColumnValueProvider;
+import com.noorq.casser.mapping.value.ValueSnapshotMap;
+import com.noorq.casser.test.unit.core.dsl.Account;
+
+public class ValueSnapshotMapTest {
+
+	private final AtomicInteger reads = new AtomicInteger();
+	
+	private final ColumnValueProvider countingProvider = new ColumnValueProvider() {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <V> V getColumnValue(Object source, int columnIndex, CasserProperty property) {
+			reads.incrementAndGet();
+			return (V) ((Map<String, Object>) source).get(property.getPropertyName());
+		}
+		
+	};
+	
+	@Test
+	public void testDecodeOnce() throws Exception {
+		
+		Map<String, Object> row = new HashMap<String, Object>();
+		row.put("id", 123L);
+		row.put("active", Boolean.TRUE);
+		
+		CasserEntity entity = Casser.entity(Account.class);
+		
+		Map<String, Object> map = new ValueSnapshotMap(row, countingProvider, entity);
+		
+		Assert.assertEquals(entity.getOrderedProperties().size(), reads.get());
+		
+		Account account = Casser.map(Account.class, map);
+		
+		Assert.assertEquals(Long.valueOf(123L), account.id());
+		Assert.assertEquals(Long.valueOf(123L), account.id());
+		Assert.assertTrue(account.active());
+		Assert.assertNull(account.time());
+		
+		Assert.assertEquals(entity.getOrderedProperties().size(), reads.get());
+		
+	}
+	
+	@Test
+	public void testKeys() throws Exception {
+		
+		CasserEntity entity = Casser.entity(Account.class);
+		
+		Map<String, Object> map = new ValueSnapshotMap(new HashMap<String, Object>(), countingProvider, entity);
+		
+		Assert.assertEquals(3, map.size());
+		Assert.assertTrue(map.containsKey("active"));
+		Assert.assertFalse(map.containsKey("unknownField"));
+		Assert.assertNull(map.get("unknownField"));
+		
+	}
+	
+}
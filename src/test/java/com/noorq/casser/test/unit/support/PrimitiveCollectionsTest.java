@@ -0,0 +1,72 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.support;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.support.IntList;
+import com.noorq.casser.support.IntSet;
+import com.noorq.casser.support.LongList;
+import com.noorq.casser.support.LongSet;
+
+public class PrimitiveCollectionsTest {
+
+	@Test
+	public void testLongSet() {
+		
+		LongSet set = LongSet.of(5L, 1L, 5L, 3L);
+		
+		Assert.assertEquals(3, set.size());
+		Assert.assertArrayEquals(new long[] { 1L, 3L, 5L }, set.toLongArray());
+		Assert.assertTrue(set.contains(3L));
+		Assert.assertTrue(set.contains(Long.valueOf(5L)));
+		Assert.assertFalse(set.contains(Integer.valueOf(5)));
+		Assert.assertEquals(new HashSet<Long>(Arrays.asList(1L, 3L, 5L)), set);
+	}
+
+	@Test
+	public void testIntSet() {
+		
+		IntSet set = IntSet.of(2, 2, -1);
+		
+		Assert.assertEquals(2, set.size());
+		Assert.assertEquals(-1, set.getInt(0));
+		Assert.assertTrue(set.contains(2));
+		Assert.assertFalse(set.contains(0));
+	}
+	
+	@Test
+	public void testLists() {
+		
+		LongList longs = LongList.of(3L, 1L, 3L);
+		IntList ints = IntList.of(3, 1, 3);
+		
+		Assert.assertEquals(Arrays.asList(3L, 1L, 3L), longs);
+		Assert.assertEquals(Arrays.asList(3, 1, 3), ints);
+		Assert.assertEquals(1L, longs.getLong(1));
+		Assert.assertEquals(1, ints.getInt(1));
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnly() {
+		LongSet.of(1L).add(2L);
+	}
+	
+}
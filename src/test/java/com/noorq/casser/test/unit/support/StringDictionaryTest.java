@@ -0,0 +1,68 @@
+/*
+ *      Copyright (C) 2015 The Casser Authors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.noorq.casser.test.unit.support;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.noorq.casser.support.StringDictionary;
+
+public class StringDictionaryTest {
+
+	private static ByteBuffer bytes(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testIntern() throws Exception {
+		
+		StringDictionary dictionary = new StringDictionary(100);
+		
+		Assert.assertEquals(128, dictionary.capacity());
+		
+		String first = dictionary.intern(bytes("ru"), StandardCharsets.UTF_8);
+		String second = dictionary.intern(bytes("ru"), StandardCharsets.UTF_8);
+		
+		Assert.assertEquals("ru", first);
+		Assert.assertSame(first, second);
+		Assert.assertEquals("us", dictionary.intern(bytes("us"), StandardCharsets.UTF_8));
+		Assert.assertEquals("страна", dictionary.intern(bytes("страна"), StandardCharsets.UTF_8));
+		Assert.assertNull(dictionary.intern(null, StandardCharsets.UTF_8));
+		
+		ByteBuffer buffer = bytes("ru");
+		dictionary.intern(buffer, StandardCharsets.UTF_8);
+		Assert.assertEquals(0, buffer.position());
+	}
+	
+	@Test
+	public void testBounded() throws Exception {
+		
+		StringDictionary dictionary = new StringDictionary(1);
+		
+		Assert.assertEquals(1, dictionary.capacity());
+		
+		for (int i = 0; i != 100; ++i) {
+			Assert.assertEquals("v" + i, dictionary.intern(bytes("v" + i), StandardCharsets.UTF_8));
+		}
+		
+		String last = dictionary.intern(bytes("v99"), StandardCharsets.UTF_8);
+		Assert.assertSame(last, dictionary.intern(bytes("v99"), StandardCharsets.UTF_8));
+	}
+	
+}
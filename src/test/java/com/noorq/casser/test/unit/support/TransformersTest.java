@@ -16,9 +16,14 @@
 package com.noorq.casser.test.unit.support;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -87,4 +92,195 @@ public class TransformersTest {
 		
 	}
 	
+	@Test
+	public void testMemoizedList() {
+		
+		List<Integer> source = new ArrayList<Integer>();
+		source.add(1);
+		source.add(2);
+		
+		AtomicInteger calls = new AtomicInteger();
+		List<String> out = Transformers.transformList(source, x -> { calls.incrementAndGet(); return "_" + x; });
+		
+		Assert.assertEquals(0, calls.get());
+		Assert.assertEquals("_2", out.get(1));
+		Assert.assertSame(out.get(1), out.get(1));
+		Assert.assertEquals(1, calls.get());
+		
+		for (int n = 0; n != 3; ++n) {
+			for (String s : out) {
+				Assert.assertNotNull(s);
+			}
+		}
+		
+		Assert.assertEquals(2, calls.get());
+	}
+	
+	@Test
+	public void testMemoizedSet() {
+		
+		Set<Integer> source = new HashSet<Integer>();
+		source.add(1);
+		source.add(2);
+		source.add(3);
+		
+		AtomicInteger calls = new AtomicInteger();
+		Set<String> out = Transformers.transformSet(source, x -> { calls.incrementAndGet(); return "_" + x; });
+
+		Assert.assertEquals(0, calls.get());
+		Assert.assertEquals(3, out.size());
+		Assert.assertTrue(out.contains("_2"));
+		Assert.assertFalse(out.contains("_4"));
+		Assert.assertEquals(3, calls.get());
+		
+		Set<String> expected = new HashSet<String>();
+		expected.add("_1");
+		expected.add("_2");
+		expected.add("_3");
+		Assert.assertEquals(expected, out);
+		Assert.assertEquals(3, calls.get());
+	}
+	
+	@Test
+	public void testMemoizedMap() {
+		
+		Map<Integer, Integer> source = new HashMap<Integer, Integer>();
+		for (int i = 0; i != 10; ++i) {
+			source.put(i, i * 10);
+		}
+
+		AtomicInteger keyCalls = new AtomicInteger();
+		AtomicInteger valueCalls = new AtomicInteger();
+		
+		Map<String, String> out = Transformers.transformMap(source, 
+				k -> { keyCalls.incrementAndGet(); return "k" + k; }, 
+				v -> { valueCalls.incrementAndGet(); return "v" + v; });
+		
+		Assert.assertEquals(10, out.size());
+		Assert.assertEquals("v50", out.get("k5"));
+		Assert.assertEquals("v50", out.get("k5"));
+		Assert.assertNull(out.get("k10"));
+		Assert.assertEquals(10, keyCalls.get());
+		Assert.assertEquals(1, valueCalls.get());
+		
+		for (int n = 0; n != 2; ++n) {
+			for (Map.Entry<String, String> e : out.entrySet()) {
+				Assert.assertEquals(Integer.parseInt(e.getKey().substring(1)) * 10, Integer.parseInt(e.getValue().substring(1)));
+			}
+		}
+		
+		Assert.assertEquals(10, keyCalls.get());
+		Assert.assertEquals(10, valueCalls.get());
+	}
+
+	@Test
+	public void testMemoizedMapValue() {
+		
+		Map<Integer, Integer> source = new HashMap<Integer, Integer>();
+		source.put(1, 10);
+		source.put(2, null);
+
+		AtomicInteger calls = new AtomicInteger();
+		Map<Integer, String> out = Transformers.transformMapValue(source, v -> { calls.incrementAndGet(); return v != null ? "v" + v : null; });
+		
+		Assert.assertEquals("v10", out.get(1));
+		Assert.assertEquals("v10", out.get(1));
+		Assert.assertNull(out.get(2));
+		Assert.assertNull(out.get(2));
+		Assert.assertTrue(out.containsKey(2));
+		Assert.assertNull(out.get(3));
+		Assert.assertEquals(2, calls.get());
+	}
+	
+	@Test
+	public void testViewsAreNotCopied() {
+		
+		Set<Integer> set = new HashSet<Integer>();
+		Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+		
+		Set<String> outSet = Transformers.transformSet(set, x -> "_" + x);
+		Map<String, String> outMap = Transformers.transformMap(map, k -> "k" + k, v -> "v" + v);
+		
+		set.add(1);
+		map.put(1, 10);
+		
+		Assert.assertEquals(1, outSet.size());
+		Assert.assertTrue(outSet.contains("_1"));
+		Assert.assertEquals("v10", outMap.get("k1"));
+	}
+	
+	@Test
+	public void testEqualOutputs() {
+		
+		Set<Integer> set = new HashSet<Integer>();
+		Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+		for (int i = 0; i != 4; ++i) {
+			set.add(i);
+			map.put(i, i * 10);
+		}
+		
+		Set<Integer> outSet = Transformers.transformSet(set, x -> x % 2);
+		Map<Integer, Integer> outMap = Transformers.transformMapKey(map, k -> k % 2);
+		
+		Assert.assertEquals(2, outSet.size());
+		Assert.assertEquals(2, outSet.stream().count());
+		Assert.assertEquals(new HashSet<Integer>(outSet), outSet);
+		
+		Assert.assertEquals(2, outMap.size());
+		Assert.assertEquals(2, outMap.entrySet().stream().count());
+		Assert.assertEquals(new HashMap<Integer, Integer>(outMap), outMap);
+		
+		Assert.assertEquals(2, Transformers.copySet(set, x -> x % 2).size());
+		Assert.assertEquals(2, Transformers.copyMapKey(map, k -> k % 2).size());
+	}
+	
+	@Test
+	public void testCopies() {
+		
+		Set<Integer> set = new HashSet<Integer>();
+		List<Integer> list = new ArrayList<Integer>();
+		Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+		set.add(1);
+		list.add(1);
+		map.put(1, 10);
+		
+		AtomicInteger calls = new AtomicInteger();
+		
+		Set<String> outSet = Transformers.copySet(set, x -> { calls.incrementAndGet(); return "_" + x; });
+		List<String> outList = Transformers.copyList(list, x -> { calls.incrementAndGet(); return "_" + x; });
+		Map<String, String> outMap = Transformers.copyMap(map, k -> { calls.incrementAndGet(); return "k" + k; }, v -> "v" + v);
+		Map<Integer, String> outValues = Transformers.copyMapValue(map, v -> { calls.incrementAndGet(); return "v" + v; });
+		
+		Assert.assertEquals(4, calls.get());
+		
+		set.add(2);
+		list.add(2);
+		map.put(2, 20);
+		
+		Assert.assertEquals(1, outSet.size());
+		Assert.assertEquals(1, outList.size());
+		Assert.assertEquals("v10", outMap.get("k1"));
+		Assert.assertEquals(1, outMap.size());
+		Assert.assertEquals(1, outValues.size());
+		Assert.assertEquals(4, calls.get());
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnlySet() {
+		
+		Set<Integer> source = new HashSet<Integer>();
+		source.add(1);
+		
+		Transformers.transformSet(source, x -> "_" + x).add("_2");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnlyMap() {
+		
+		Map<Integer, Integer> source = new HashMap<Integer, Integer>();
+		source.put(1, 10);
+		
+		Transformers.transformMapKey(source, k -> "k" + k).put("k2", 20);
+	}
+	
 }